@@ -2,6 +2,7 @@ package analysis.experiments;
 
 import analysis.utils.AnalysisUtils;
 import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.LongLongHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -36,11 +37,15 @@ public class Experiment1 {
         System.out.println("Starting experiment 1, test 2");
         IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment1::test2, NUM_TRIALS);
 
+        System.out.println("Starting experiment 1, test 3");
+        IList<Long> test3Results = AnalysisUtils.runTrials(dictionarySizes, Experiment1::test3, NUM_TRIALS);
+
         System.out.println("Saving experiment 1 results to file");
         CsvWriter writer = new CsvWriter();
         writer.addColumn("InputDictionarySize", dictionarySizes);
         writer.addColumn("Test1Results", test1Results);
         writer.addColumn("Test2Results", test2Results);
+        writer.addColumn("Test3Results", test3Results);
         writer.writeToFile("experimentdata/experiment1.csv");
 
         System.out.println("All done!");
@@ -68,4 +73,16 @@ public class Experiment1 {
         // Returns time elapsed
         return System.currentTimeMillis() - start;
     }
+
+    public static long test3(long dictionarySize) {
+        // Same as test1, but on a primitive dictionary, so we measure removal without boxing
+        LongLongHashDictionary dictionary = AnalysisUtils.makePrimitiveDictionary(dictionarySize, false);
+
+        long start = System.currentTimeMillis();
+        for (long i = 0L; i < dictionarySize; i++) {
+            dictionary.remove(i);
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
 }
@@ -0,0 +1,80 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
+
+public class Experiment10 {
+    // Compares 'contains' and 'indexOf' on a plain DoubleLinkedList against one created
+    // with a value index, for lists of increasing size. Tests 1 and 2 fill the lists with
+    // distinct values; tests 3 and 4 fill them with just two values, each repeated
+    // throughout the list.
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_LIST_SIZE = 50000;
+    public static final long STEP = 5000;
+    public static final int NUM_LOOKUPS = 1000;
+
+    public static void main(String[] args) {
+        IList<Long> listSizes = AnalysisUtils.makeList(STEP, MAX_LIST_SIZE + 1, STEP);
+
+        System.out.println("Starting experiment 10, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(listSizes, Experiment10::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 10, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(listSizes, Experiment10::test2, NUM_TRIALS);
+
+        System.out.println("Starting experiment 10, test 3");
+        IList<Long> test3Results = AnalysisUtils.runTrials(listSizes, Experiment10::test3, NUM_TRIALS);
+
+        System.out.println("Starting experiment 10, test 4");
+        IList<Long> test4Results = AnalysisUtils.runTrials(listSizes, Experiment10::test4, NUM_TRIALS);
+
+        System.out.println("Saving experiment 10 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputListSize", listSizes);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.addColumn("Test3Results", test3Results);
+        writer.addColumn("Test4Results", test4Results);
+        writer.writeToFile("experimentdata/experiment10.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long listSize) {
+        return lookUpValues(new DoubleLinkedList<>(), listSize, listSize);
+    }
+
+    public static long test2(long listSize) {
+        return lookUpValues(new DoubleLinkedList<>(0, true), listSize, listSize);
+    }
+
+    public static long test3(long listSize) {
+        return lookUpValues(new DoubleLinkedList<>(), listSize, 2);
+    }
+
+    public static long test4(long listSize) {
+        return lookUpValues(new DoubleLinkedList<>(0, true), listSize, 2);
+    }
+
+    private static long lookUpValues(IList<Long> list, long listSize, long numValues) {
+        // We don't include the cost of filling the list when running this test.
+        // Half the lookups are for values that aren't in the list, which is the
+        // worst case for a linear scan.
+        for (long i = 0; i < listSize; i++) {
+            list.add(i % numValues);
+        }
+
+        long start = System.currentTimeMillis();
+        long temp = 0;
+        for (int i = 0; i < NUM_LOOKUPS; i++) {
+            long value = (i * 7919L) % (2 * numValues);
+            if (list.contains(value)) {
+                temp += list.indexOf(value);
+            }
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+}
@@ -2,6 +2,8 @@ package analysis.experiments;
 
 import analysis.utils.AnalysisUtils;
 import analysis.utils.CsvWriter;
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.concrete.dictionaries.CompactArrayDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -21,11 +23,23 @@ public class Experiment4 {
         System.out.println("Starting experiment 4, test 2");
         IList<Long> test2Results = AnalysisUtils.runSingleTrial(listSizes, Experiment4::test2);
 
+        System.out.println("Starting experiment 4, test 3");
+        IList<Long> test3Results = AnalysisUtils.runSingleTrial(listSizes, Experiment4::test3);
+
+        System.out.println("Starting experiment 4, test 4");
+        IList<Long> test4Results = AnalysisUtils.runSingleTrial(listSizes, Experiment4::test4);
+
+        System.out.println("Starting experiment 4, test 5");
+        IList<Long> test5Results = AnalysisUtils.runSingleTrial(listSizes, Experiment4::test5);
+
         System.out.println("Saving results to file");
         CsvWriter writer = new CsvWriter();
         writer.addColumn("InputListSize", listSizes);
         writer.addColumn("ResultsTest1", test1Results);
         writer.addColumn("ResultsTest2", test2Results);
+        writer.addColumn("ResultsTest3", test3Results);
+        writer.addColumn("ResultsTest4", test4Results);
+        writer.addColumn("ResultsTest5", test5Results);
         writer.writeToFile("experimentdata/experiment4.csv");
 
         System.out.println("All done!");
@@ -40,4 +54,27 @@ public class Experiment4 {
         IDictionary<Long, Long> dictionary = AnalysisUtils.makeDictionary(size);
         return AnalysisUtils.getApproximateMemoryUsed(dictionary);
     }
+
+    public static long test3(long size) {
+        // Same contents as test1, but stored in an unrolled linked list for comparison
+        IList<Long> list = new UnrolledLinkedList<>();
+        for (long i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return AnalysisUtils.getApproximateMemoryUsed(list);
+    }
+
+    public static long test4(long size) {
+        // Same contents as test2, but stored in a primitive dictionary for comparison
+        return AnalysisUtils.getApproximateMemoryUsed(AnalysisUtils.makePrimitiveDictionary(size, false));
+    }
+
+    public static long test5(long size) {
+        // Same contents as test2, but stored in parallel arrays instead of an array of pairs
+        IDictionary<Long, Long> dictionary = new CompactArrayDictionary<>();
+        for (long i = 0; i < size; i++) {
+            dictionary.put(i, -1L);
+        }
+        return AnalysisUtils.getApproximateMemoryUsed(dictionary);
+    }
 }
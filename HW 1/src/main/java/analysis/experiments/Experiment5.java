@@ -0,0 +1,58 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.LongLongHashDictionary;
+import datastructures.interfaces.IList;
+
+public class Experiment5 {
+    // This experiment uses far larger dictionaries than the others, so it only works
+    // with the primitive dictionary: the boxed dictionaries would run out of heap.
+    //
+    // Note: the dictionaries are presized, so up to 12.5 million entries fit in a 2^24
+    // slot table, which takes 256 MB either on the heap (test 1) or in direct memory
+    // (test 2). Past that, the table doubles to 512 MB, which no longer fits in the
+    // default -Xmx512m. To go further, raise -Xmx and -XX:MaxDirectMemorySize as well.
+    public static final int NUM_TRIALS = 3;
+    public static final long MAX_DICTIONARY_SIZE = 12000000;
+    public static final long STEP = 1000000;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySizes = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE + 1, STEP);
+
+        System.out.println("Starting experiment 5, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySizes, Experiment5::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 5, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment5::test2, NUM_TRIALS);
+
+        System.out.println("Saving experiment 5 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputDictionarySize", dictionarySizes);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.writeToFile("experimentdata/experiment5.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        return lookUpEveryKey(AnalysisUtils.makePrimitiveDictionary(dictionarySize, false), dictionarySize);
+    }
+
+    public static long test2(long dictionarySize) {
+        // Same as test1, but with the entries stored off-heap
+        return lookUpEveryKey(AnalysisUtils.makePrimitiveDictionary(dictionarySize, true), dictionarySize);
+    }
+
+    private static long lookUpEveryKey(LongLongHashDictionary dictionary, long dictionarySize) {
+        // We don't include the cost of constructing the dictionary when running this test
+        long start = System.currentTimeMillis();
+        long temp = 0L;
+        for (long i = 0L; i < dictionarySize; i++) {
+            temp += dictionary.get(i);
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+}
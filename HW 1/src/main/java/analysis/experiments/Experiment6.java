@@ -0,0 +1,83 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.ConcurrentHashDictionary;
+import datastructures.concrete.dictionaries.SynchronizedDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+public class Experiment6 {
+    // Every thread works on the same small dictionary, so the threads contend for it
+    // as much as possible.
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_THREADS = 8;
+    public static final int NUM_KEYS = 100;
+    public static final int OPERATIONS_PER_THREAD = 500000;
+    // One in every WRITE_INTERVAL operations is a put; the rest are gets
+    public static final int WRITE_INTERVAL = 10;
+
+    public static void main(String[] args) {
+        IList<Long> threadCounts = AnalysisUtils.makeList(1L, MAX_THREADS + 1, 1L);
+
+        System.out.println("Starting experiment 6, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(threadCounts, Experiment6::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 6, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(threadCounts, Experiment6::test2, NUM_TRIALS);
+
+        System.out.println("Saving experiment 6 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("NumThreads", threadCounts);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.writeToFile("experimentdata/experiment6.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long numThreads) {
+        return runThreads(new SynchronizedDictionary<>(new ArrayDictionary<>()), numThreads);
+    }
+
+    public static long test2(long numThreads) {
+        return runThreads(new ConcurrentHashDictionary<>(), numThreads);
+    }
+
+    private static long runThreads(IDictionary<Integer, Integer> dictionary, long numThreads) {
+        // We don't include the cost of filling the dictionary when running this test
+        for (int i = 0; i < NUM_KEYS; i++) {
+            dictionary.put(i, i);
+        }
+        Thread[] threads = new Thread[(int) numThreads];
+        for (int i = 0; i < threads.length; i++) {
+            int seed = i;
+            threads[i] = new Thread(() -> {
+                int temp = 0;
+                for (int j = 0; j < OPERATIONS_PER_THREAD; j++) {
+                    int key = (j * 31 + seed) % NUM_KEYS;
+                    if (j % WRITE_INTERVAL == 0) {
+                        dictionary.put(key, j);
+                    } else {
+                        temp += dictionary.get(key);
+                    }
+                }
+            });
+        }
+
+        long start = System.currentTimeMillis();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+}
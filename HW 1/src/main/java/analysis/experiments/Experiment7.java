@@ -0,0 +1,72 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.dictionaries.AdaptiveDictionary;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+public class Experiment7 {
+    // Compares a linear scan against hashing for the tiny String-keyed dictionaries the
+    // calculator uses. The size where the two lines cross is what
+    // AdaptiveDictionary.DEFAULT_THRESHOLD is based on.
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_DICTIONARY_SIZE = 32;
+    public static final int NUM_LOOKUPS = 5000000;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySizes = AnalysisUtils.makeList(1L, MAX_DICTIONARY_SIZE + 1, 1L);
+
+        System.out.println("Starting experiment 7, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySizes, Experiment7::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 7, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment7::test2, NUM_TRIALS);
+
+        System.out.println("Starting experiment 7, test 3");
+        IList<Long> test3Results = AnalysisUtils.runTrials(dictionarySizes, Experiment7::test3, NUM_TRIALS);
+
+        System.out.println("Saving experiment 7 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputDictionarySize", dictionarySizes);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.addColumn("Test3Results", test3Results);
+        writer.writeToFile("experimentdata/experiment7.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        return lookUpKeys(new ArrayDictionary<>(), dictionarySize);
+    }
+
+    public static long test2(long dictionarySize) {
+        return lookUpKeys(new ChainedHashDictionary<>(), dictionarySize);
+    }
+
+    public static long test3(long dictionarySize) {
+        return lookUpKeys(new AdaptiveDictionary<>(), dictionarySize);
+    }
+
+    private static long lookUpKeys(IDictionary<String, Integer> dictionary, long dictionarySize) {
+        // We don't include the cost of filling the dictionary when running this test.
+        // The keys we look up are equal to, but not the same objects as, the stored ones,
+        // just like names coming out of the parser.
+        String[] keys = new String[(int) dictionarySize];
+        for (int i = 0; i < keys.length; i++) {
+            dictionary.put("name" + i, i);
+            keys[i] = "name" + i;
+        }
+
+        long start = System.currentTimeMillis();
+        int temp = 0;
+        for (int i = 0; i < NUM_LOOKUPS; i++) {
+            temp += dictionary.get(keys[i % keys.length]);
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+}
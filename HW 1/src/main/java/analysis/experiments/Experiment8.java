@@ -0,0 +1,94 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IList;
+
+public class Experiment8 {
+    // Runs a queue that constantly gains and loses elements, and measures how much memory
+    // it allocates and how many garbage collections that causes, with and without the
+    // DoubleLinkedList node pool.
+    //
+    // Note: the allocation counts are deterministic, so there's no need to conduct trials
+    public static final long MAX_OPERATIONS = 20000000;
+    public static final long STEP = 2000000;
+    public static final int QUEUE_LENGTH = 1000;
+    public static final int POOL_SIZE = 64;
+
+    public static void main(String[] args) {
+        IList<Long> operationCounts = AnalysisUtils.makeList(STEP, MAX_OPERATIONS + 1, STEP);
+
+        System.out.println("Starting experiment 8, test 1");
+        IList<Long> test1Results = AnalysisUtils.runSingleTrial(operationCounts, Experiment8::test1);
+
+        System.out.println("Starting experiment 8, test 2");
+        IList<Long> test2Results = AnalysisUtils.runSingleTrial(operationCounts, Experiment8::test2);
+
+        System.out.println("Starting experiment 8, test 3");
+        IList<Long> test3Results = AnalysisUtils.runSingleTrial(operationCounts, Experiment8::test3);
+
+        System.out.println("Starting experiment 8, test 4");
+        IList<Long> test4Results = AnalysisUtils.runSingleTrial(operationCounts, Experiment8::test4);
+
+        System.out.println("Saving experiment 8 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("NumOperations", operationCounts);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.addColumn("Test3Results", test3Results);
+        writer.addColumn("Test4Results", test4Results);
+        writer.writeToFile("experimentdata/experiment8.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long numOperations) {
+        // Bytes allocated without a pool
+        return bytesAllocated(new DoubleLinkedList<>(), numOperations);
+    }
+
+    public static long test2(long numOperations) {
+        // Bytes allocated with a pool
+        return bytesAllocated(new DoubleLinkedList<>(POOL_SIZE), numOperations);
+    }
+
+    public static long test3(long numOperations) {
+        // Garbage collections without a pool
+        return garbageCollections(new DoubleLinkedList<>(), numOperations);
+    }
+
+    public static long test4(long numOperations) {
+        // Garbage collections with a pool
+        return garbageCollections(new DoubleLinkedList<>(POOL_SIZE), numOperations);
+    }
+
+    private static long bytesAllocated(DoubleLinkedList<Integer> queue, long numOperations) {
+        fill(queue);
+        long start = AnalysisUtils.getBytesAllocated();
+        churn(queue, numOperations);
+        return AnalysisUtils.getBytesAllocated() - start;
+    }
+
+    private static long garbageCollections(DoubleLinkedList<Integer> queue, long numOperations) {
+        fill(queue);
+        long start = AnalysisUtils.getGarbageCollectionCount();
+        churn(queue, numOperations);
+        return AnalysisUtils.getGarbageCollectionCount() - start;
+    }
+
+    // We don't include the cost of filling the queue in the measurements
+    private static void fill(DoubleLinkedList<Integer> queue) {
+        for (int i = 0; i < QUEUE_LENGTH; i++) {
+            queue.add(i % 128);
+        }
+    }
+
+    // Each operation takes one element off the front and puts one on the back. The values
+    // stay within the range of cached Integers, so the only allocations are list nodes.
+    private static void churn(DoubleLinkedList<Integer> queue, long numOperations) {
+        for (long i = 0; i < numOperations; i++) {
+            queue.add(queue.removeFirst());
+        }
+    }
+}
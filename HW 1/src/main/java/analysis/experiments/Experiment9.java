@@ -0,0 +1,135 @@
+package analysis.experiments;
+
+import analysis.utils.AnalysisUtils;
+import analysis.utils.CsvWriter;
+import datastructures.concrete.codecs.BinaryCodec;
+import datastructures.concrete.codecs.DictionaryCodec;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+
+public class Experiment9 {
+    // Compares DictionaryCodec against java.io serialization, by how long it takes to
+    // encode and decode a dictionary of String variable names to Doubles, and how many
+    // bytes the encoded dictionary takes.
+    //
+    // Our dictionaries aren't Serializable, so java.io gets a java.util.HashMap with the
+    // same contents instead.
+    public static final int NUM_TRIALS = 5;
+    public static final long MAX_DICTIONARY_SIZE = 100000;
+    public static final long STEP = 10000;
+    public static final int NUM_ROUND_TRIPS = 10;
+
+    public static void main(String[] args) {
+        IList<Long> dictionarySizes = AnalysisUtils.makeList(STEP, MAX_DICTIONARY_SIZE + 1, STEP);
+
+        System.out.println("Starting experiment 9, test 1");
+        IList<Long> test1Results = AnalysisUtils.runTrials(dictionarySizes, Experiment9::test1, NUM_TRIALS);
+
+        System.out.println("Starting experiment 9, test 2");
+        IList<Long> test2Results = AnalysisUtils.runTrials(dictionarySizes, Experiment9::test2, NUM_TRIALS);
+
+        // The sizes are deterministic, so there's no need to conduct trials
+        System.out.println("Starting experiment 9, test 3");
+        IList<Long> test3Results = AnalysisUtils.runSingleTrial(dictionarySizes, Experiment9::test3);
+
+        System.out.println("Starting experiment 9, test 4");
+        IList<Long> test4Results = AnalysisUtils.runSingleTrial(dictionarySizes, Experiment9::test4);
+
+        System.out.println("Saving experiment 9 results to file");
+        CsvWriter writer = new CsvWriter();
+        writer.addColumn("InputDictionarySize", dictionarySizes);
+        writer.addColumn("Test1Results", test1Results);
+        writer.addColumn("Test2Results", test2Results);
+        writer.addColumn("Test3Results", test3Results);
+        writer.addColumn("Test4Results", test4Results);
+        writer.writeToFile("experimentdata/experiment9.csv");
+
+        System.out.println("All done!");
+    }
+
+    public static long test1(long dictionarySize) {
+        // Round trips through DictionaryCodec
+        DictionaryCodec<String, Double> codec = new DictionaryCodec<>(BinaryCodec.STRINGS, BinaryCodec.DOUBLES);
+        IDictionary<String, Double> dictionary = makeDictionary(dictionarySize);
+        // Reuse one buffer, as a caller writing many values would
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        long start = System.currentTimeMillis();
+        int temp = 0;
+        for (int i = 0; i < NUM_ROUND_TRIPS; i++) {
+            buffer.clear();
+            buffer = codec.encode(dictionary, buffer);
+            temp += codec.decode(buffer).size();
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+
+    public static long test2(long dictionarySize) {
+        // Round trips through ObjectOutputStream and ObjectInputStream
+        HashMap<String, Double> map = makeMap(dictionarySize);
+
+        long start = System.currentTimeMillis();
+        int temp = 0;
+        for (int i = 0; i < NUM_ROUND_TRIPS; i++) {
+            temp += deserialize(serialize(map)).size();
+        }
+        // Returns time elapsed
+        return System.currentTimeMillis() - start;
+    }
+
+    public static long test3(long dictionarySize) {
+        // Bytes used by DictionaryCodec
+        DictionaryCodec<String, Double> codec = new DictionaryCodec<>(BinaryCodec.STRINGS, BinaryCodec.DOUBLES);
+        return codec.encode(makeDictionary(dictionarySize)).length;
+    }
+
+    public static long test4(long dictionarySize) {
+        // Bytes used by java.io serialization
+        return serialize(makeMap(dictionarySize)).length;
+    }
+
+    private static IDictionary<String, Double> makeDictionary(long size) {
+        IDictionary<String, Double> dictionary = new ChainedHashDictionary<>();
+        for (int i = 0; i < size; i++) {
+            dictionary.put("var" + i, i * 0.5);
+        }
+        return dictionary;
+    }
+
+    private static HashMap<String, Double> makeMap(long size) {
+        HashMap<String, Double> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put("var" + i, i * 0.5);
+        }
+        return map;
+    }
+
+    private static byte[] serialize(HashMap<String, Double> map) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HashMap<String, Double> deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (HashMap<String, Double>) in.readObject();
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
@@ -2,10 +2,13 @@ package analysis.utils;
 
 import datastructures.concrete.DoubleLinkedList;
 import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.LongLongHashDictionary;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 import org.openjdk.jol.info.GraphLayout;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.util.function.Function;
 
 /**
@@ -37,6 +40,20 @@ public class AnalysisUtils {
         return dictionary;
     }
 
+    /**
+     * Constructs a primitive long-to-long dictionary containing keys from 0 to 'size'
+     * (with dummy values). Unlike 'makeDictionary', this never boxes a key or value,
+     * so it can hold over ten million entries in a 512 MB heap. If 'offHeap' is true,
+     * the entries are stored outside the Java heap altogether.
+     */
+    public static LongLongHashDictionary makePrimitiveDictionary(long size, boolean offHeap) {
+        LongLongHashDictionary dictionary = new LongLongHashDictionary((int) size, offHeap);
+        for (long i = 0; i < size; i += 1) {
+            dictionary.put(i, -1L);
+        }
+        return dictionary;
+    }
+
     /**
      * Handles running a single experiment.
      *
@@ -117,4 +134,28 @@ public class AnalysisUtils {
     public static long getApproximateMemoryUsed(Object obj) {
         return GraphLayout.parseInstance(obj).totalSize();
     }
+
+    /**
+     * Returns the total number of bytes the current thread has allocated so far. Take the
+     * difference between two calls to find out how much some code allocated.
+     *
+     * This relies on an extension of the standard ThreadMXBean that HotSpot-based JVMs provide.
+     */
+    public static long getBytesAllocated() {
+        com.sun.management.ThreadMXBean bean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the total number of garbage collections the JVM has run so far, across all
+     * collectors.
+     */
+    public static long getGarbageCollectionCount() {
+        long count = 0L;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0L, bean.getCollectionCount());
+        }
+        return count;
+    }
 }
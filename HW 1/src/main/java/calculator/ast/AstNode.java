@@ -1,7 +1,7 @@
 package calculator.ast;
 
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PersistentVector;
 import datastructures.interfaces.IList;
 
 /**
@@ -18,14 +18,14 @@ public class AstNode {
      * Creates a leaf node representing a single number.
      */
     public AstNode(double number) {
-        this("" + number, new DoubleLinkedList<>(), ExprType.NUMBER);
+        this("" + number, new PersistentVector<>(), ExprType.NUMBER);
     }
 
     /**
      * Creates a leaf node representing a variable.
      */
     public AstNode(String name) {
-        this(name, new DoubleLinkedList<>(), ExprType.VARIABLE);
+        this(name, new PersistentVector<>(), ExprType.VARIABLE);
     }
 
     /**
@@ -46,6 +46,10 @@ public class AstNode {
      *
      * Note that the list of children may be empty: this represents calling a
      * function with no arguments.
+     *
+     * If 'children' is a PersistentVector, code that rewrites this node can take
+     * a constant-time copy of it with 'PersistentVector.copyOf' instead of copying
+     * every child.
      */
     public AstNode(String name, IList<AstNode> children) {
         this(name, children, ExprType.OPERATION);
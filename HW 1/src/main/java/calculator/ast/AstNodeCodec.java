@@ -0,0 +1,69 @@
+package calculator.ast;
+
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.codecs.BinaryCodec;
+import datastructures.concrete.codecs.BinaryReader;
+import datastructures.concrete.codecs.BinaryWriter;
+import datastructures.interfaces.IList;
+
+/**
+ * Stores an AST in a compact binary form, so it can be cached or saved without having
+ * to be printed and parsed again. For example, this lets a MappedLogDictionary hold
+ * AstNode values.
+ *
+ * Each node is written as a tag, followed by:
+ *
+ * - NUMBER: the value as a double
+ * - VARIABLE: the name
+ * - OPERATION: the name, the number of children, and then each child
+ *
+ * Names are interned by BinaryWriter, so a tree that uses the same variable or operator
+ * many times only stores its name once.
+ */
+public class AstNodeCodec extends BinaryCodec<AstNode> {
+    private static final int NUMBER = 0;
+    private static final int VARIABLE = 1;
+    private static final int OPERATION = 2;
+
+    @Override
+    public void write(BinaryWriter writer, AstNode node) {
+        if (node == null) {
+            throw new IllegalArgumentException("Cannot encode null");
+        }
+        if (node.isNumber()) {
+            writer.writeVarInt(NUMBER);
+            writer.writeDouble(node.getNumericValue());
+        } else if (node.isVariable()) {
+            writer.writeVarInt(VARIABLE);
+            writer.writeString(node.getName());
+        } else {
+            IList<AstNode> children = node.getChildren();
+            writer.writeVarInt(OPERATION);
+            writer.writeString(node.getName());
+            writer.writeVarInt(children.size());
+            for (AstNode child : children) {
+                this.write(writer, child);
+            }
+        }
+    }
+
+    @Override
+    public AstNode read(BinaryReader reader) {
+        int tag = reader.readVarInt();
+        if (tag == NUMBER) {
+            return new AstNode(reader.readDouble());
+        } else if (tag == VARIABLE) {
+            return new AstNode(reader.readString());
+        } else if (tag == OPERATION) {
+            String name = reader.readString();
+            int numChildren = reader.readVarInt();
+            IList<AstNode> children = new PersistentVector<>();
+            for (int i = 0; i < numChildren; i++) {
+                children.add(this.read(reader));
+            }
+            return new AstNode(name, children);
+        } else {
+            throw new IllegalArgumentException("Unknown AstNode tag " + tag);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package calculator.ast;
 import calculator.interpreter.Environment;
 import calculator.errors.EvaluationError;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.PrimitiveDoubleList;
 import datastructures.interfaces.IDictionary;
 import datastructures.interfaces.IList;
 
@@ -14,6 +15,10 @@ import datastructures.interfaces.IList;
  * pairs in some cases.
  */
 public class ExpressionManipulators {
+    // The most points 'plot' allocates room for up front. Plots with more points than
+    // this still work; the lists just grow as they fill up.
+    private static final int MAX_PRESIZED_POINTS = 1 << 20;
+
     /**
      * Accepts an 'toDouble(inner)' AstNode and returns a new node containing the simplified version
      * of the 'inner' AstNode.
@@ -121,11 +126,9 @@ public class ExpressionManipulators {
                 child = handleSimplifyHelper(variables, variables.get(child.getName()));
             }
         } else {
-            IList<AstNode> copy = new DoubleLinkedList<AstNode>();
-            for (int i = 0; i < node.getChildren().size(); i++) {
-                copy.add(node.getChildren().get(i));
-            }
-            child = new AstNode(node.getName(), copy);
+            // Constant time when the children are a PersistentVector; setting a child
+            // below then only copies the path to it.
+            child = new AstNode(node.getName(), PersistentVector.copyOf(node.getChildren()));
             String name = child.getName();
             if (name.equals("+") || name.equals("-") || name.equals("*")) {
                 if (child.getChildren().get(0).isNumber() && child.getChildren().get(1).isNumber()) {
@@ -189,6 +192,16 @@ public class ExpressionManipulators {
         //
         // When working on this method, you should uncomment the following line:
         //return new AstNode(1);      
+        return plot(env, node, new PrimitiveDoubleList(), new PrimitiveDoubleList());
+    }
+
+    /**
+     * Same as 'plot(env, node)', but collects the sampled points into the given
+     * primitive lists instead of allocating new ones. Both lists are cleared first,
+     * so callers that plot repeatedly can reuse the same buffers.
+     */
+    public static AstNode plot(Environment env, AstNode node,
+                               PrimitiveDoubleList xValues, PrimitiveDoubleList yValues) {
         IList<AstNode> child = node.getChildren(); 
         IDictionary<String, AstNode> variables = env.getVariables();
         double varMin = toDoubleHelper(variables, child.get(2));
@@ -201,7 +214,8 @@ public class ExpressionManipulators {
         }
         for (int i = 0; i < child.size(); i++) {
             AstNode curr = child.get(i);
-            if (curr.getChildren() == null || curr.getChildren().size() == 0) {
+            // The loop variable (index 1) is expected to be undefined
+            if (i != 1 && (curr.getChildren() == null || curr.getChildren().size() == 0)) {
                 if (curr.isVariable() && !variables.containsKey(curr.getName())) {
                     throw new EvaluationError("This expression contains an undefined variable");
                 }
@@ -212,21 +226,21 @@ public class ExpressionManipulators {
         } else if (step <= 0) {
             throw new EvaluationError("Step is zero or negative");
         } else {
-            IList<AstNode> copy = new DoubleLinkedList<>();
-            for (int i = 0; i < child.size(); i++) {
-                copy.add(child.get(i));
-            }
-            AstNode exprToPlot = new AstNode(node.getName(), copy);
-            IList<Double> xValues = new DoubleLinkedList<Double>();
-            IList<Double> yValues = new DoubleLinkedList<Double>();
+            AstNode exprToPlot = child.get(0);
+            String varName = child.get(1).getName();
+            // The loop variable lives in a child scope, so the session's variables never change
+            IDictionary<String, AstNode> scope = env.makeChildScope().getVariables();
+            int expectedPoints = (int) Math.min(MAX_PRESIZED_POINTS, (varMax - varMin) / step + 1);
+            xValues.clear();
+            yValues.clear();
+            xValues.ensureCapacity(expectedPoints);
+            yValues.ensureCapacity(expectedPoints);
             for (double i = varMin; i <= varMax; i+= step) {
-                xValues.add(i);
-                variables.put(exprToPlot.getChildren().get(1).getName(), new AstNode(i));
-                yValues.add(toDoubleHelper(variables, exprToPlot.getChildren().get(0)));
-                
+                xValues.addDouble(i);
+                scope.put(varName, new AstNode(i));
+                yValues.addDouble(toDoubleHelper(scope, exprToPlot));
             }
-            variables.remove(exprToPlot.getChildren().get(1).getName());
-            env.getImageDrawer().drawScatterPlot("Plot", child.get(1).getName(), "output", xValues, yValues);
+            env.getImageDrawer().drawScatterPlot("Plot", varName, "output", xValues, yValues);
         }
         return new AstNode(1);
     }
@@ -1,8 +1,11 @@
 package calculator.gui;
 
+import datastructures.concrete.PrimitiveDoubleList;
 import datastructures.interfaces.IList;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
@@ -153,13 +156,54 @@ public class ImageDrawer implements ImageObserver {
         XYSeriesCollection seriesCollection = new XYSeriesCollection();
         seriesCollection.addSeries(series);
 
+        this.drawScatterPlot(title, xAxisLabel, yAxisLabel, seriesCollection, drawRegion);
+    }
+
+    /**
+     * Draws a scatter plot that occupies the entire window, reading the coordinates
+     * directly out of primitive double lists.
+     *
+     * This behaves exactly like the IList<Double> version, but never boxes the
+     * individual coordinates, which matters for plots with a very large number of points.
+     */
+    public void drawScatterPlot(String title, String xAxisLabel, String yAxisLabel,
+                                PrimitiveDoubleList xValues, PrimitiveDoubleList yValues) {
+        if (this.width == UNKNOWN_DIMENSION || this.height == UNKNOWN_DIMENSION) {
+            throw new IllegalStateException("Unexpected fatal error: Image width or height unknown");
+        }
+        this.drawScatterPlot(
+                title, xAxisLabel, yAxisLabel, xValues, yValues,
+                new Rectangle2D.Double(0, 0, this.width, this.height));
+    }
+
+    /**
+     * Draws a scatter plot that occupies the given portion of the window, reading the
+     * coordinates directly out of primitive double lists.
+     */
+    public void drawScatterPlot(String title, String xAxisLabel, String yAxisLabel,
+                                PrimitiveDoubleList xValues, PrimitiveDoubleList yValues,
+                                Rectangle2D drawRegion) {
+        if (xValues.size() != yValues.size()) {
+            throw new IllegalArgumentException("Number of 'x' values and 'y' values are not the same.");
+        }
+
+        // A DefaultXYDataset stores its series as raw double[] arrays, so we can
+        // hand it the list contents without creating a data item per point.
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("Series 1", new double[][] {exactArray(xValues), exactArray(yValues)});
+
+        this.drawScatterPlot(title, xAxisLabel, yAxisLabel, dataset, drawRegion);
+    }
+
+    private void drawScatterPlot(String title, String xAxisLabel, String yAxisLabel,
+                                 XYDataset dataset, Rectangle2D drawRegion) {
         // Finally, we create our chart. We hide the legend mostly because
         // it's sort of pointless if we only ever plot one series at a time.
         JFreeChart chart = ChartFactory.createScatterPlot(
                 title,
                 xAxisLabel,
                 yAxisLabel,
-                seriesCollection);
+                dataset);
         chart.removeLegend();
 
         // We then draw this chart using the underlying Graphics object.
@@ -167,6 +211,13 @@ public class ImageDrawer implements ImageObserver {
         chart.draw(g2, drawRegion);
     }
 
+    // Returns the backing array of the list if it has no spare capacity, and a
+    // trimmed copy otherwise.
+    private static double[] exactArray(PrimitiveDoubleList list) {
+        double[] array = list.array();
+        return array.length == list.size() ? array : list.toArray();
+    }
+
     @Override
     public boolean imageUpdate(Image img, int infoflags, int x, int y, int newWidth, int newHeight) {
         boolean widthReady = (infoflags & ImageObserver.WIDTH) != 0;
@@ -7,12 +7,17 @@ import calculator.ast.ControlFlowManipulators;
 import calculator.ast.ExpressionManipulators;
 import calculator.gui.ImageDrawer;
 import calculator.parser.Parser;
-import datastructures.concrete.DoubleLinkedList;
-import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.ResizingArrayList;
+import datastructures.concrete.dictionaries.AdaptiveDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import datastructures.interfaces.IList;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 
 public class Calculator {
     // Components used by the calculator
@@ -39,12 +44,14 @@ public class Calculator {
         this.parser = new Parser();
         this.interpreter = new Interpreter();
 
-        this.variables = new ArrayDictionary<>();
+        // Persistent, so that Environment.makeChildScope() runs in constant time
+        this.variables = new PersistentHashDictionary<>();
         this.imageDrawer = imageDrawer;
 
-        this.customFunctions = new ArrayDictionary<>();
-        this.specialFunctions = new ArrayDictionary<>();
-        this.precedenceMap = new ArrayDictionary<>();
+        // Only three custom functions are defined, which is small enough for a linear scan
+        this.customFunctions = new AdaptiveDictionary<>();
+        this.specialFunctions = new ChainedHashDictionary<>();
+        this.precedenceMap = new ChainedHashDictionary<>();
 
         // Your functions
         this.customFunctions.put("simplify", ExpressionManipulators::handleSimplify);
@@ -69,6 +76,19 @@ public class Calculator {
         this.precedenceMap.put("/", 3);
         this.precedenceMap.put("+", 4);
         this.precedenceMap.put("-", 4);
+
+        // Otherwise the parser would hand out its own copies of these names, and
+        // looking them up would always have to compare characters
+        this.addParserSymbols(this.customFunctions);
+        this.addParserSymbols(this.specialFunctions);
+        this.addParserSymbols(this.precedenceMap);
+    }
+
+    private void addParserSymbols(IDictionary<String, ?> table) {
+        IDictionaryCursor<String, ?> cursor = table.cursor();
+        while (cursor.next()) {
+            this.parser.addSymbol(cursor.key());
+        }
     }
 
     public void setImageDrawer(ImageDrawer imageDrawer) {
@@ -105,14 +125,20 @@ public class Calculator {
         } else if (node.isVariable()) {
             return node;
         } else {
-            IList<AstNode> newChildren = new DoubleLinkedList<>();
+            IList<AstNode> newChildren = PersistentVector.copyOf(node.getChildren());
+            int index = 0;
             for (AstNode oldChild : node.getChildren()) {
-                newChildren.add(injectSimplifyHelper(env, oldChild));
+                AstNode newChild = injectSimplifyHelper(env, oldChild);
+                if (newChild != oldChild) {
+                    newChildren.set(index, newChild);
+                }
+                index++;
             }
 
             if (env.getSpecialFunctions().containsKey(node.getName())) {
-                for (int i = 0; i < newChildren.size(); i++) {
-                    newChildren.set(i, wrapSimplifyFunc(newChildren.get(i)));
+                ListIterator<AstNode> iter = newChildren.listIterator();
+                while (iter.hasNext()) {
+                    iter.set(wrapSimplifyFunc(iter.next()));
                 }
 
                 return wrapSimplifyFunc(new AstNode(node.getName(), newChildren));
@@ -126,7 +152,7 @@ public class Calculator {
         if (inner.isOperation() && inner.getName().equals("simplify")) {
             return inner;
         } else {
-            IList<AstNode> children = new DoubleLinkedList<>();
+            IList<AstNode> children = new PersistentVector<>();
             children.add(inner);
             return new AstNode("simplify", children);
         }
@@ -158,7 +184,7 @@ public class Calculator {
             int currPrecedenceLevel = hasPrecedence ? this.precedenceMap.get(name) : STRONGEST_PRECEDENCE;
             int childPrecedenceLevel = hasPrecedence ? currPrecedenceLevel : WEAKEST_PRECEDENCE;
 
-            IList<String> children = new DoubleLinkedList<>();
+            IList<String> children = new ResizingArrayList<>(node.getChildren().size());
             for (AstNode child : node.getChildren()) {
                 children.add(this.convertToString(child, childPrecedenceLevel));
             }
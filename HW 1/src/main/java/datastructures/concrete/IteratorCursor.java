@@ -0,0 +1,46 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IDictionaryCursor;
+
+import java.util.Iterator;
+
+/**
+ * An IDictionaryCursor that walks an iterator of key-value pairs. Dictionaries
+ * that store their entries in some other form should provide their own cursor,
+ * since this one still creates a KVPair per entry.
+ *
+ * See IDictionary.cursor for more details.
+ */
+public class IteratorCursor<K, V> implements IDictionaryCursor<K, V> {
+    private final Iterator<KVPair<K, V>> iter;
+    private KVPair<K, V> current;
+
+    public IteratorCursor(Iterator<KVPair<K, V>> iter) {
+        this.iter = iter;
+        this.current = null;
+    }
+
+    @Override
+    public boolean next() {
+        this.current = this.iter.hasNext() ? this.iter.next() : null;
+        return this.current != null;
+    }
+
+    @Override
+    public K key() {
+        this.checkCurrent();
+        return this.current.getKey();
+    }
+
+    @Override
+    public V value() {
+        this.checkCurrent();
+        return this.current.getValue();
+    }
+
+    private void checkCurrent() {
+        if (this.current == null) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package datastructures.concrete;
+
+/**
+ * An immutable key-value pair, used when iterating over an IDictionary.
+ */
+public class KVPair<K, V> {
+    private final K key;
+    private final V value;
+
+    public KVPair(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    public K getKey() {
+        return this.key;
+    }
+
+    public V getValue() {
+        return this.value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || this.getClass() != other.getClass()) {
+            return false;
+        }
+        KVPair<?, ?> pair = (KVPair<?, ?>) other;
+        return (this.key == null ? pair.key == null : this.key.equals(pair.key))
+                && (this.value == null ? pair.value == null : this.value.equals(pair.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (this.key == null ? 0 : this.key.hashCode())
+                + (this.value == null ? 0 : this.value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return this.key + "=" + this.value;
+    }
+}
@@ -0,0 +1,402 @@
+package datastructures.concrete;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+
+/**
+ * A secondary index over the values of a list, kept in step with the list by calling
+ * 'insert', 'delete', 'set' and 'removeRange' whenever the list changes.
+ *
+ * The index holds one entry per element, arranged in a treap (a binary tree kept
+ * balanced, in expectation, by random priorities) whose in-order sequence matches
+ * the list. Each entry knows the size of its subtree, so the entry at any position,
+ * and the position of any entry, can be found in O(log n) time.
+ *
+ * The entries holding the same value are also linked into a second treap of their
+ * own, ordered by position, and a hash dictionary maps every value to the root of
+ * that treap. That makes 'contains' constant time, and 'indexOf' only has to rank
+ * the leftmost entry instead of walking the list. A value that occurs once costs no
+ * more than its dictionary entry.
+ *
+ * Every operation here takes O(log n) expected time, except that inserting a value
+ * that occurs k times takes O(log k log n), since it is placed among the others by
+ * ranking them, and 'insertAll' takes O(m + d log k log n) for m values of which d
+ * are distinct.
+ */
+class OrderStatisticIndex<T> {
+    private Entry<T> root;
+    // The root of each value's treap of occurrences
+    private IDictionary<T, Entry<T>> occurrences;
+    // State for the random priorities (xorshift); must never be 0
+    private int seed;
+    // The first part of the tree produced by the last call to 'split' or 'splitSame'
+    private Entry<T> splitLeft;
+
+    public OrderStatisticIndex() {
+        this.seed = 0x2545F491;
+        this.clear();
+    }
+
+    public void clear() {
+        this.root = null;
+        this.occurrences = new ChainedHashDictionary<>();
+    }
+
+    public int size() {
+        return size(this.root);
+    }
+
+    public boolean contains(T value) {
+        return this.occurrences.containsKey(value);
+    }
+
+    /**
+     * Returns the position of the first occurrence of the value, or -1 if there is none.
+     */
+    public int indexOf(T value) {
+        Entry<T> entry = this.occurrences.getOrDefault(value, null);
+        if (entry == null) {
+            return -1;
+        }
+        while (entry.sameLeft != null) {
+            entry = entry.sameLeft;
+        }
+        return rankOf(entry);
+    }
+
+    /**
+     * Adds a value at the given position, shifting later values up by one.
+     *
+     * Precondition: 0 <= index <= size()
+     */
+    public void insert(int index, T value) {
+        Entry<T> entry = new Entry<>(value, this.nextPriority());
+        Entry<T> rest = this.split(this.root, index);
+        this.setRoot(this.merge(this.merge(this.splitLeft, entry), rest));
+        this.register(entry);
+    }
+
+    /**
+     * Adds the given values, in order, starting at the given position. The new entries
+     * are built into a tree of their own in linear time, which is then joined in with a
+     * single split and merge, instead of inserting them one at a time. The same goes
+     * for the new occurrences of each value.
+     *
+     * Precondition: 0 <= index <= size()
+     */
+    public void insertAll(int index, Iterable<T> values) {
+        IDictionary<T, IList<Entry<T>>> added = new ChainedHashDictionary<>();
+        Entry<T> tree = this.build(values, added);
+        Entry<T> rest = this.split(this.root, index);
+        this.setRoot(this.merge(this.merge(this.splitLeft, tree), rest));
+        for (KVPair<T, IList<Entry<T>>> pair : added) {
+            this.registerAll(index, pair.getValue());
+        }
+    }
+
+    /**
+     * Removes the value at the given position, shifting later values down by one.
+     *
+     * Precondition: 0 <= index < size()
+     */
+    public void delete(int index) {
+        this.removeRange(index, index + 1);
+    }
+
+    /**
+     * Replaces the value at the given position.
+     *
+     * Precondition: 0 <= index < size()
+     */
+    public void set(int index, T value) {
+        Entry<T> entry = this.entryAt(index);
+        this.unregister(entry);
+        entry.value = value;
+        this.register(entry);
+    }
+
+    /**
+     * Removes the values at positions [fromIndex, toIndex).
+     *
+     * Precondition: 0 <= fromIndex <= toIndex <= size()
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        Entry<T> rest = this.split(this.root, fromIndex);
+        Entry<T> before = this.splitLeft;
+        rest = this.split(rest, toIndex - fromIndex);
+        this.unregisterAll(this.splitLeft);
+        this.setRoot(this.merge(before, rest));
+    }
+
+    // Builds a treap holding the values in order, and returns its root. 'spine' holds
+    // the right spine of the tree built so far, root first: each new entry goes at the
+    // bottom of the spine, taking the entries that have lower priorities as its left
+    // subtree. Every entry joins and leaves the spine once, so this takes linear time.
+    // The new entries are also collected in 'added', grouped by value and in order.
+    private Entry<T> build(Iterable<T> values, IDictionary<T, IList<Entry<T>>> added) {
+        IList<Entry<T>> spine = new ResizingArrayList<>();
+        for (T value : values) {
+            Entry<T> entry = new Entry<>(value, this.nextPriority());
+            IList<Entry<T>> group = added.getOrDefault(value, null);
+            if (group == null) {
+                group = new ResizingArrayList<>(1);
+                added.put(value, group);
+            }
+            group.add(entry);
+            Entry<T> left = null;
+            while (!spine.isEmpty() && spine.get(spine.size() - 1).priority < entry.priority) {
+                // Nothing more will be added below this entry, so its size is final
+                left = spine.remove();
+                update(left);
+            }
+            entry.left = left;
+            if (!spine.isEmpty()) {
+                spine.get(spine.size() - 1).right = entry;
+            }
+            spine.add(entry);
+        }
+        Entry<T> root = null;
+        while (!spine.isEmpty()) {
+            root = spine.remove();
+            update(root);
+        }
+        return root;
+    }
+
+    private Entry<T> entryAt(int index) {
+        Entry<T> curr = this.root;
+        while (true) {
+            int leftSize = size(curr.left);
+            if (index < leftSize) {
+                curr = curr.left;
+            } else if (index == leftSize) {
+                return curr;
+            } else {
+                index -= leftSize + 1;
+                curr = curr.right;
+            }
+        }
+    }
+
+    private static <T> int rankOf(Entry<T> entry) {
+        int rank = size(entry.left);
+        while (entry.parent != null) {
+            if (entry.parent.right == entry) {
+                rank += size(entry.parent.left) + 1;
+            }
+            entry = entry.parent;
+        }
+        return rank;
+    }
+
+    // Splits 'tree' in two. Returns the part after the first 'count' entries, and
+    // leaves the first 'count' entries in 'splitLeft'. Parent pointers of the two
+    // new roots are only fixed by the caller.
+    private Entry<T> split(Entry<T> tree, int count) {
+        if (tree == null) {
+            this.splitLeft = null;
+            return null;
+        }
+        if (count <= size(tree.left)) {
+            tree.left = this.split(tree.left, count);
+            update(tree);
+            return tree;
+        } else {
+            Entry<T> rest = this.split(tree.right, count - size(tree.left) - 1);
+            tree.right = this.splitLeft;
+            update(tree);
+            this.splitLeft = tree;
+            return rest;
+        }
+    }
+
+    // Joins two trees, where every entry of 'first' comes before every entry of 'second'
+    private Entry<T> merge(Entry<T> first, Entry<T> second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        } else if (first.priority > second.priority) {
+            first.right = this.merge(first.right, second);
+            update(first);
+            return first;
+        } else {
+            second.left = this.merge(first, second.left);
+            update(second);
+            return second;
+        }
+    }
+
+    private void setRoot(Entry<T> newRoot) {
+        this.root = newRoot;
+        if (newRoot != null) {
+            newRoot.parent = null;
+        }
+        this.splitLeft = null;
+    }
+
+    // Recomputes the entry's subtree size and points its children back at it
+    private static <T> void update(Entry<T> entry) {
+        entry.size = 1 + size(entry.left) + size(entry.right);
+        if (entry.left != null) {
+            entry.left.parent = entry;
+        }
+        if (entry.right != null) {
+            entry.right.parent = entry;
+        }
+    }
+
+    // Splits a treap of occurrences in two. Returns the part at or after 'position' in
+    // the list, and leaves the part before it in 'splitLeft'.
+    private Entry<T> splitSame(Entry<T> tree, int position) {
+        if (tree == null) {
+            this.splitLeft = null;
+            return null;
+        }
+        if (position <= rankOf(tree)) {
+            tree.sameLeft = this.splitSame(tree.sameLeft, position);
+            updateSame(tree);
+            return tree;
+        } else {
+            Entry<T> rest = this.splitSame(tree.sameRight, position);
+            tree.sameRight = this.splitLeft;
+            updateSame(tree);
+            this.splitLeft = tree;
+            return rest;
+        }
+    }
+
+    // Joins two treaps of occurrences, where every entry of 'first' comes before every
+    // entry of 'second'
+    private static <T> Entry<T> mergeSame(Entry<T> first, Entry<T> second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        } else if (first.priority > second.priority) {
+            first.sameRight = mergeSame(first.sameRight, second);
+            updateSame(first);
+            return first;
+        } else {
+            second.sameLeft = mergeSame(first, second.sameLeft);
+            updateSame(second);
+            return second;
+        }
+    }
+
+    private void setSameRoot(T value, Entry<T> newRoot) {
+        if (newRoot == null) {
+            this.occurrences.remove(value);
+        } else {
+            newRoot.sameParent = null;
+            this.occurrences.put(value, newRoot);
+        }
+        this.splitLeft = null;
+    }
+
+    // Points the entry's children in its treap of occurrences back at it
+    private static <T> void updateSame(Entry<T> entry) {
+        if (entry.sameLeft != null) {
+            entry.sameLeft.sameParent = entry;
+        }
+        if (entry.sameRight != null) {
+            entry.sameRight.sameParent = entry;
+        }
+    }
+
+    private static <T> int size(Entry<T> entry) {
+        return entry == null ? 0 : entry.size;
+    }
+
+    private int nextPriority() {
+        this.seed ^= this.seed << 13;
+        this.seed ^= this.seed >>> 17;
+        this.seed ^= this.seed << 5;
+        return this.seed;
+    }
+
+    // Adds an entry, which must already be in the main tree, to its value's occurrences
+    private void register(Entry<T> entry) {
+        Entry<T> rest = this.splitSame(this.occurrences.getOrDefault(entry.value, null), rankOf(entry));
+        this.setSameRoot(entry.value, mergeSame(mergeSame(this.splitLeft, entry), rest));
+    }
+
+    // Adds entries holding the same value, which must already be in the main tree in
+    // the given order starting at 'index', to that value's occurrences. Any other
+    // occurrence comes either before all of them or after all of them, so one split
+    // is enough, and the new entries are built into a tree the same way as in 'build'.
+    private void registerAll(int index, IList<Entry<T>> entries) {
+        T value = entries.get(0).value;
+        Entry<T> rest = this.splitSame(this.occurrences.getOrDefault(value, null), index);
+        Entry<T> before = this.splitLeft;
+        IList<Entry<T>> spine = new ResizingArrayList<>();
+        for (Entry<T> entry : entries) {
+            Entry<T> left = null;
+            while (!spine.isEmpty() && spine.get(spine.size() - 1).priority < entry.priority) {
+                left = spine.remove();
+                updateSame(left);
+            }
+            entry.sameLeft = left;
+            if (!spine.isEmpty()) {
+                spine.get(spine.size() - 1).sameRight = entry;
+            }
+            spine.add(entry);
+        }
+        Entry<T> tree = null;
+        while (!spine.isEmpty()) {
+            tree = spine.remove();
+            updateSame(tree);
+        }
+        this.setSameRoot(value, mergeSame(mergeSame(before, tree), rest));
+    }
+
+    // Removes an entry from its value's occurrences by putting the merge of its two
+    // subtrees in its place
+    private void unregister(Entry<T> entry) {
+        Entry<T> replacement = mergeSame(entry.sameLeft, entry.sameRight);
+        Entry<T> parent = entry.sameParent;
+        if (parent == null) {
+            this.setSameRoot(entry.value, replacement);
+        } else {
+            if (parent.sameLeft == entry) {
+                parent.sameLeft = replacement;
+            } else {
+                parent.sameRight = replacement;
+            }
+            if (replacement != null) {
+                replacement.sameParent = parent;
+            }
+        }
+        entry.sameLeft = null;
+        entry.sameRight = null;
+        entry.sameParent = null;
+    }
+
+    private void unregisterAll(Entry<T> tree) {
+        if (tree != null) {
+            this.unregisterAll(tree.left);
+            this.unregisterAll(tree.right);
+            this.unregister(tree);
+        }
+    }
+
+    private static class Entry<E> {
+        public E value;
+        public final int priority;
+        public Entry<E> left;
+        public Entry<E> right;
+        public Entry<E> parent;
+        public int size;
+        // Links in the treap of entries holding the same value, ordered by position
+        public Entry<E> sameLeft;
+        public Entry<E> sameRight;
+        public Entry<E> sameParent;
+
+        public Entry(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+            this.size = 1;
+        }
+    }
+}
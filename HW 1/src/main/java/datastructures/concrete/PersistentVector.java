@@ -0,0 +1,378 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An IList stored as a 32-way radix tree whose nodes are never modified once they
+ * are shared, so copies of the list share almost all of their structure.
+ *
+ * 'copy()' runs in constant time, and changing one element of a copy only copies
+ * the nodes on the path from the root to that element, which is O(log n) with a
+ * very small constant: a list of a million elements is only four levels deep. The
+ * last (up to) 32 elements are kept in a separate 'tail' array so add and remove
+ * at the end are usually constant time as well.
+ *
+ * Inserting or deleting anywhere other than the end rebuilds the list, so those
+ * run in O(n) time. This is meant for lists that are copied and rewritten in
+ * place, such as the children of an AstNode.
+ *
+ * Note: For more info on the expected behavior of your methods, see
+ * the source code for IList.
+ */
+public class PersistentVector<T> implements IList<T> {
+    // Inner nodes hold up to WIDTH child nodes; leaves hold up to WIDTH elements.
+    // Nodes reachable from 'root' may be shared with other vectors, so they are
+    // always copied before being changed.
+    private Object[] root;
+    private int shift;
+    private Object[] tail;
+    // Whether 'tail' belongs to this vector alone and may be changed in place
+    private boolean ownsTail;
+    private int size;
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    // Never modified, so every empty vector can share them
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+
+    public PersistentVector() {
+        this.clear();
+    }
+
+    /**
+     * Returns a new vector with the same contents as the given list. If the list is
+     * itself a PersistentVector, this runs in constant time.
+     */
+    public static <T> PersistentVector<T> copyOf(IList<T> list) {
+        if (list instanceof PersistentVector) {
+            return ((PersistentVector<T>) list).copy();
+        }
+        PersistentVector<T> result = new PersistentVector<>();
+        result.addAll(list);
+        return result;
+    }
+
+    /**
+     * Returns a new vector with the same contents as this one, in constant time.
+     * Later changes to either vector are not visible in the other.
+     */
+    public PersistentVector<T> copy() {
+        PersistentVector<T> result = new PersistentVector<>();
+        result.root = this.root;
+        result.shift = this.shift;
+        result.tail = this.tail;
+        result.size = this.size;
+        // Both vectors now share the tail, so neither may change it in place
+        result.ownsTail = false;
+        this.ownsTail = false;
+        return result;
+    }
+
+    /**
+     * Returns a copy of this vector with the element at the given index replaced,
+     * leaving this vector unchanged.
+     *
+     * @throws IndexOutOfBoundsException  if the index is out of bounds
+     */
+    public PersistentVector<T> with(int index, T item) {
+        this.checkIndex(index);
+        PersistentVector<T> result = this.copy();
+        result.set(index, item);
+        return result;
+    }
+
+    @Override
+    public void add(T item) {
+        int tailOffset = this.tailOffset();
+        if (this.size - tailOffset < WIDTH) {
+            this.ensureOwnTail();
+            this.tail[this.size - tailOffset] = item;
+            this.size++;
+            return;
+        }
+
+        // The tail is full: move it into the tree and start a new one
+        Object[] fullTail = this.tail;
+        if ((this.size >>> BITS) > (1 << this.shift)) {
+            // The tree itself is full, so it grows a level
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = this.root;
+            newRoot[1] = newPath(this.shift, fullTail);
+            this.root = newRoot;
+            this.shift += BITS;
+        } else {
+            this.root = this.pushTail(this.shift, this.root, fullTail);
+        }
+        this.tail = new Object[WIDTH];
+        this.tail[0] = item;
+        this.ownsTail = true;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        T result = this.get(this.size - 1);
+        if (this.size == 1) {
+            this.clear();
+        } else if (this.size - this.tailOffset() > 1) {
+            this.ensureOwnTail();
+            this.tail[this.size - this.tailOffset() - 1] = null;
+            this.size--;
+        } else {
+            // The tail is about to be empty, so the last leaf of the tree becomes the new tail
+            this.tail = this.leafFor(this.size - 2);
+            this.ownsTail = false;
+            Object[] newRoot = this.popTail(this.shift, this.root);
+            if (newRoot == null) {
+                newRoot = EMPTY_NODE;
+            }
+            if (this.shift > BITS && newRoot[1] == null) {
+                newRoot = (Object[]) newRoot[0];
+                this.shift -= BITS;
+            }
+            this.root = newRoot;
+            this.size--;
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        this.checkIndex(index);
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        if (index >= this.tailOffset()) {
+            this.ensureOwnTail();
+            this.tail[index & MASK] = item;
+        } else {
+            this.root = setInTree(this.shift, this.root, index, item);
+        }
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == this.size) {
+            this.add(item);
+            return;
+        }
+        Object[] items = this.toArray(this.size + 1);
+        System.arraycopy(items, index, items, index + 1, this.size - index);
+        items[index] = item;
+        this.rebuild(items);
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        if (index == this.size - 1) {
+            return this.remove();
+        }
+        T result = this.get(index);
+        Object[] items = this.toArray(this.size);
+        System.arraycopy(items, index + 1, items, index, this.size - index - 1);
+        this.rebuild(Arrays.copyOf(items, this.size - 1));
+        return result;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        Iterator<T> iter = this.iterator();
+        for (int i = 0; iter.hasNext(); i++) {
+            T curr = iter.next();
+            if (item == null ? curr == null : item.equals(curr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new PersistentVectorIterator<>(this);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        // Positional access only walks a few levels of the tree, so an index-based
+        // iterator is efficient here.
+        return new IndexedListIterator<>(this);
+    }
+
+    /**
+     * Removes every element from this vector.
+     */
+    public void clear() {
+        this.root = EMPTY_NODE;
+        this.shift = BITS;
+        this.tail = EMPTY_TAIL;
+        this.ownsTail = false;
+        this.size = 0;
+    }
+
+    // The index of the first element stored in the tail
+    private int tailOffset() {
+        return this.size < WIDTH ? 0 : ((this.size - 1) >>> BITS) << BITS;
+    }
+
+    // Returns the leaf (or tail) holding the element at the given index
+    private Object[] leafFor(int index) {
+        if (index >= this.tailOffset()) {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void ensureOwnTail() {
+        if (!this.ownsTail) {
+            this.tail = Arrays.copyOf(this.tail, WIDTH);
+            this.ownsTail = true;
+        }
+    }
+
+    // Returns a copy of 'parent' with 'fullTail' added as its rightmost leaf
+    private Object[] pushTail(int level, Object[] parent, Object[] fullTail) {
+        int subIndex = ((this.size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS) {
+            result[subIndex] = fullTail;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            result[subIndex] = child != null
+                    ? this.pushTail(level - BITS, child, fullTail)
+                    : newPath(level - BITS, fullTail);
+        }
+        return result;
+    }
+
+    // Returns a copy of 'node' without its rightmost leaf, or null if nothing is left
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((this.size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = this.popTail(level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Object[] result = node.clone();
+            result[subIndex] = newChild;
+            return result;
+        } else if (subIndex == 0) {
+            return null;
+        } else {
+            Object[] result = node.clone();
+            result[subIndex] = null;
+            return result;
+        }
+    }
+
+    private void rebuild(Object[] items) {
+        this.clear();
+        for (Object item : items) {
+            @SuppressWarnings("unchecked")
+            T curr = (T) item;
+            this.add(curr);
+        }
+    }
+
+    private Object[] toArray(int arraySize) {
+        Object[] result = new Object[arraySize];
+        int i = 0;
+        for (T item : this) {
+            result[i] = item;
+            i++;
+        }
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    // Wraps 'node' in enough single-child nodes to sit 'level' bits below the root
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    // Returns a copy of 'node' with the element at 'index' replaced, copying only
+    // the nodes along the way
+    private static Object[] setInTree(int level, Object[] node, int index, Object item) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = item;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result[subIndex] = setInTree(level - BITS, (Object[]) node[subIndex], index, item);
+        }
+        return result;
+    }
+
+    private static class PersistentVectorIterator<T> implements Iterator<T> {
+        private final PersistentVector<T> vector;
+        private int index;
+        private Object[] leaf;
+
+        public PersistentVectorIterator(PersistentVector<T> vector) {
+            this.vector = vector;
+            this.index = 0;
+            this.leaf = null;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.vector.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            // Only walk down the tree once per leaf
+            if ((this.index & MASK) == 0 || this.leaf == null) {
+                this.leaf = this.vector.leafFor(this.index);
+            }
+            T result = (T) this.leaf[this.index & MASK];
+            this.index++;
+            return result;
+        }
+    }
+}
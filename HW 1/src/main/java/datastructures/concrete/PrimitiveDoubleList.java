@@ -0,0 +1,329 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A growable list of doubles stored in a plain double[] array.
+ *
+ * Unlike a DoubleLinkedList<Double>, this list never allocates a node or a boxed
+ * Double per element: use the primitive methods (addDouble, getDouble, setDouble,
+ * addAll) to avoid boxing entirely. The IList<Double> methods are still provided
+ * so this list can be passed anywhere an IList<Double> is expected.
+ *
+ * Note: For more info on the expected behavior of the IList methods, see
+ * the source code for IList.
+ */
+public class PrimitiveDoubleList implements IList<Double> {
+    private double[] values;
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public PrimitiveDoubleList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PrimitiveDoubleList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.values = new double[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Adds the given value to the end of this list without boxing it.
+     */
+    public void addDouble(double value) {
+        this.ensureCapacity(this.size + 1);
+        this.values[this.size] = value;
+        this.size++;
+    }
+
+    /**
+     * Appends 'length' values from the given array, starting at 'offset', to the
+     * end of this list using a single array copy.
+     *
+     * @throws IndexOutOfBoundsException if the range lies outside the given array
+     */
+    public void addAll(double[] source, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > source.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.ensureCapacity(this.size + length);
+        System.arraycopy(source, offset, this.values, this.size, length);
+        this.size += length;
+    }
+
+    /**
+     * Appends every value in the given list to the end of this list.
+     */
+    public void addAll(PrimitiveDoubleList other) {
+        this.addAll(other.values, 0, other.size);
+    }
+
+    /**
+     * Returns the value located at the given index without boxing it.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public double getDouble(int index) {
+        this.checkIndex(index);
+        return this.values[index];
+    }
+
+    /**
+     * Overwrites the value located at the given index without boxing it.
+     *
+     * @throws IndexOutOfBoundsException if the index < 0 or index >= this.size()
+     */
+    public void setDouble(int index, double value) {
+        this.checkIndex(index);
+        this.values[index] = value;
+    }
+
+    /**
+     * Returns the backing array of this list without copying it. Only the first
+     * size() entries are meaningful.
+     *
+     * The returned array is shared with this list: writes through it are visible
+     * in the list, and it stops being the backing array as soon as the list grows.
+     */
+    public double[] array() {
+        return this.values;
+    }
+
+    /**
+     * Returns a new array containing exactly the values in this list.
+     */
+    public double[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    /**
+     * Makes sure the backing array can hold at least 'minCapacity' values
+     * without growing again.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.values.length) {
+            int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, this.values.length * 2));
+            this.values = Arrays.copyOf(this.values, newCapacity);
+        }
+    }
+
+    /**
+     * Removes every value from this list, keeping the backing array for reuse.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    @Override
+    public void add(Double item) {
+        this.addDouble(item);
+    }
+
+    @Override
+    public Double remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        return this.values[this.size];
+    }
+
+    @Override
+    public Double get(int index) {
+        return this.getDouble(index);
+    }
+
+    @Override
+    public void set(int index, Double item) {
+        this.setDouble(index, item);
+    }
+
+    @Override
+    public void insert(int index, Double item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.ensureCapacity(this.size + 1);
+        System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+        this.values[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public Double delete(int index) {
+        this.checkIndex(index);
+        double result = this.values[index];
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(this.values, toIndex, this.values, fromIndex, this.size - toIndex);
+        this.size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public int indexOf(Double item) {
+        if (item == null) {
+            return -1;
+        }
+        // Compare the same way Double.equals does, so NaN can be found
+        long bits = Double.doubleToLongBits(item);
+        for (int i = 0; i < this.size; i++) {
+            if (Double.doubleToLongBits(this.values[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Double other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<Double> iterator() {
+        return new PrimitiveDoubleListIterator(this);
+    }
+
+    @Override
+    public ListIterator<Double> listIterator() {
+        return new PrimitiveDoubleListListIterator();
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        // Splits the backing array by index range without boxing anything up front
+        return Spliterators.spliterator(this.values, 0, this.size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a stream over the values in this list that never boxes them.
+     * If 'parallel' is true, the stream may split the work across several threads.
+     */
+    public DoubleStream doubleStream(boolean parallel) {
+        return StreamSupport.doubleStream(this.spliterator(), parallel);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class PrimitiveDoubleListIterator implements Iterator<Double> {
+        private final PrimitiveDoubleList list;
+        private int index;
+
+        public PrimitiveDoubleListIterator(PrimitiveDoubleList list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        public Double next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            double result = this.list.values[this.index];
+            this.index++;
+            return result;
+        }
+    }
+
+    private class PrimitiveDoubleListListIterator implements ListIterator<Double> {
+        private int nextIndex;
+        // Index of the element most recently returned by next() or previous(),
+        // or -1 if it has since been removed or an element was added
+        private int lastReturned;
+
+        public PrimitiveDoubleListListIterator() {
+            this.nextIndex = 0;
+            this.lastReturned = -1;
+        }
+
+        public boolean hasNext() {
+            return this.nextIndex < size;
+        }
+
+        public Double next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.nextIndex;
+            this.nextIndex++;
+            return values[this.lastReturned];
+        }
+
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        public Double previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.nextIndex--;
+            this.lastReturned = this.nextIndex;
+            return values[this.lastReturned];
+        }
+
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        public void remove() {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            delete(this.lastReturned);
+            this.nextIndex = this.lastReturned;
+            this.lastReturned = -1;
+        }
+
+        public void set(Double item) {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            values[this.lastReturned] = item;
+        }
+
+        public void add(Double item) {
+            insert(this.nextIndex, item);
+            this.nextIndex++;
+            this.lastReturned = -1;
+        }
+    }
+}
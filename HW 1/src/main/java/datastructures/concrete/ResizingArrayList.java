@@ -0,0 +1,262 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An IList backed by an array that doubles in size whenever it fills up.
+ *
+ * Unlike DoubleLinkedList, get and set run in constant time, and add and remove
+ * at the end run in amortized constant time. Inserting or deleting in the middle
+ * shifts the later elements over with a single System.arraycopy.
+ *
+ * Note: For more info on the expected behavior of your methods, see
+ * the source code for IList.
+ */
+public class ResizingArrayList<T> implements IList<T> {
+    private T[] elements;
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    public ResizingArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ResizingArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative");
+        }
+        this.elements = makeArray(initialCapacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArray(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    @Override
+    public void add(T item) {
+        this.ensureCapacity(this.size + 1);
+        this.elements[this.size] = item;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        T result = this.elements[this.size];
+        this.elements[this.size] = null;
+        return result;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.elements[index];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.elements[index] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.ensureCapacity(this.size + 1);
+        System.arraycopy(this.elements, index, this.elements, index + 1, this.size - index);
+        this.elements[index] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        T result = this.elements[index];
+        System.arraycopy(this.elements, index + 1, this.elements, index, this.size - index - 1);
+        this.size--;
+        this.elements[this.size] = null;
+        return result;
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> items) {
+        if (items instanceof IList) {
+            this.ensureCapacity(this.size + ((IList<?>) items).size());
+        }
+        for (T item : items) {
+            this.add(item);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        System.arraycopy(this.elements, toIndex, this.elements, fromIndex, this.size - toIndex);
+        int newSize = this.size - (toIndex - fromIndex);
+        Arrays.fill(this.elements, newSize, this.size, null);
+        this.size = newSize;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            T curr = this.elements[i];
+            if (item == null ? curr == null : item.equals(curr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    /**
+     * Makes sure the backing array can hold at least 'minCapacity' elements
+     * without growing again.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.elements.length) {
+            int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, this.elements.length * 2));
+            this.elements = Arrays.copyOf(this.elements, newCapacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ResizingArrayListIterator<>(this);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ResizingArrayListListIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        // Splits the backing array by index range, so parallel streams divide the work evenly
+        return Spliterators.spliterator(this.elements, 0, this.size, Spliterator.ORDERED);
+    }
+
+    private static class ResizingArrayListIterator<T> implements Iterator<T> {
+        private final ResizingArrayList<T> list;
+        private int index;
+
+        public ResizingArrayListIterator(ResizingArrayList<T> list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = this.list.elements[this.index];
+            this.index++;
+            return result;
+        }
+    }
+
+    private class ResizingArrayListListIterator implements ListIterator<T> {
+        private int nextIndex;
+        // Index of the element most recently returned by next() or previous(),
+        // or -1 if it has since been removed or an element was added
+        private int lastReturned;
+
+        public ResizingArrayListListIterator() {
+            this.nextIndex = 0;
+            this.lastReturned = -1;
+        }
+
+        public boolean hasNext() {
+            return this.nextIndex < size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.nextIndex;
+            this.nextIndex++;
+            return elements[this.lastReturned];
+        }
+
+        public boolean hasPrevious() {
+            return this.nextIndex > 0;
+        }
+
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            this.nextIndex--;
+            this.lastReturned = this.nextIndex;
+            return elements[this.lastReturned];
+        }
+
+        public int nextIndex() {
+            return this.nextIndex;
+        }
+
+        public int previousIndex() {
+            return this.nextIndex - 1;
+        }
+
+        public void remove() {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            delete(this.lastReturned);
+            this.nextIndex = this.lastReturned;
+            this.lastReturned = -1;
+        }
+
+        public void set(T item) {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            elements[this.lastReturned] = item;
+        }
+
+        public void add(T item) {
+            insert(this.nextIndex, item);
+            this.nextIndex++;
+            this.lastReturned = -1;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An IList that holds at most a fixed number of elements, stored in a circular array.
+ * Once it is full, adding an element to the end drops the element at the front, so the
+ * list always holds the most recent 'capacity' elements, like a history or a window of
+ * recent samples. Adding elements never allocates, and 'forEach' walks the elements
+ * without allocating an iterator.
+ *
+ * add, remove, get and set all run in constant time. Inserting or deleting in the
+ * middle shifts the later elements over. Only 'add' drops elements: 'insert' (and so
+ * the list iterator's 'add') throws an IllegalStateException if the list is full.
+ *
+ * Note: For more info on the expected behavior of your methods, see
+ * the source code for IList.
+ */
+public class RingBufferList<T> implements IList<T> {
+    private final T[] elements;
+    // The slot holding index 0
+    private int head;
+    private int size;
+
+    public RingBufferList(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.elements = makeArray(capacity);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] makeArray(int arraySize) {
+        return (T[]) new Object[arraySize];
+    }
+
+    /**
+     * Returns the maximum number of elements this list can hold.
+     */
+    public int capacity() {
+        return this.elements.length;
+    }
+
+    /**
+     * Returns 'true' if adding another element would drop the oldest one.
+     */
+    public boolean isFull() {
+        return this.size == this.elements.length;
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.isFull()) {
+            // Overwrite the oldest element, which makes the next one the oldest
+            this.elements[this.head] = item;
+            this.head = this.wrap(this.head + 1);
+        } else {
+            this.elements[this.slot(this.size)] = item;
+            this.size++;
+        }
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        int slot = this.slot(this.size);
+        T result = this.elements[slot];
+        this.elements[slot] = null;
+        return result;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.elements[this.slot(index)];
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.elements[this.slot(index)] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (this.isFull()) {
+            throw new IllegalStateException("List is full");
+        }
+        for (int i = this.size; i > index; i--) {
+            this.elements[this.slot(i)] = this.elements[this.slot(i - 1)];
+        }
+        this.elements[this.slot(index)] = item;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        T result = this.elements[this.slot(index)];
+        if (index == 0) {
+            this.elements[this.head] = null;
+            this.head = this.wrap(this.head + 1);
+        } else {
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[this.slot(i)] = this.elements[this.slot(i + 1)];
+            }
+            this.elements[this.slot(this.size - 1)] = null;
+        }
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        for (int i = 0; i < this.size; i++) {
+            T curr = this.elements[this.slot(i)];
+            if (item == null ? curr == null : item.equals(curr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new RingBufferListIterator<>(this);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new IndexedListIterator<>(this);
+    }
+
+    /**
+     * Passes every element to 'action', from oldest to newest, without creating an iterator.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < this.size; i++) {
+            action.accept(this.elements[this.slot(i)]);
+        }
+    }
+
+    // Returns the array slot holding the element at the given index
+    private int slot(int index) {
+        return this.wrap(this.head + index);
+    }
+
+    // Precondition: 0 <= slot < 2 * capacity
+    private int wrap(int slot) {
+        return slot >= this.elements.length ? slot - this.elements.length : slot;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class RingBufferListIterator<T> implements Iterator<T> {
+        private final RingBufferList<T> list;
+        private int index;
+
+        public RingBufferListIterator(RingBufferList<T> list) {
+            this.list = list;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.list.size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = this.list.elements[this.list.slot(this.index)];
+            this.index++;
+            return result;
+        }
+    }
+}
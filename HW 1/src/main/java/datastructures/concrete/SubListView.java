@@ -0,0 +1,178 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A view of a contiguous range of some other IList. Every operation is translated
+ * into the corresponding operation on the parent list, so no elements are copied.
+ *
+ * See IList.subList for more details.
+ */
+public class SubListView<T> implements IList<T> {
+    private final IList<T> parent;
+    private final int offset;
+    private int size;
+
+    public SubListView(IList<T> parent, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > parent.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.parent = parent;
+        this.offset = fromIndex;
+        this.size = toIndex - fromIndex;
+    }
+
+    @Override
+    public void add(T item) {
+        this.parent.insert(this.offset + this.size, item);
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        this.size--;
+        return this.parent.delete(this.offset + this.size);
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        return this.parent.get(this.offset + index);
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        this.parent.set(this.offset + index, item);
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.parent.insert(this.offset + index, item);
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        this.size--;
+        return this.parent.delete(this.offset + index);
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.parent.removeRange(this.offset + fromIndex, this.offset + toIndex);
+        this.size -= toIndex - fromIndex;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        Iterator<T> iter = this.iterator();
+        for (int i = 0; iter.hasNext(); i++) {
+            T curr = iter.next();
+            if (item == null ? curr == null : item.equals(curr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return this.listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new SubListViewIterator();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /**
+     * Walks the parent list with its own list iterator, so iterating over a view
+     * of a DoubleLinkedList does not restart from the front at every step.
+     */
+    private class SubListViewIterator implements ListIterator<T> {
+        private final ListIterator<T> inner;
+
+        public SubListViewIterator() {
+            this.inner = parent.listIterator();
+            for (int i = 0; i < offset; i++) {
+                this.inner.next();
+            }
+        }
+
+        public boolean hasNext() {
+            return this.nextIndex() < size;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.inner.next();
+        }
+
+        public boolean hasPrevious() {
+            return this.nextIndex() > 0;
+        }
+
+        public T previous() {
+            if (!this.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return this.inner.previous();
+        }
+
+        public int nextIndex() {
+            return this.inner.nextIndex() - offset;
+        }
+
+        public int previousIndex() {
+            return this.nextIndex() - 1;
+        }
+
+        public void remove() {
+            this.inner.remove();
+            size--;
+        }
+
+        public void set(T item) {
+            this.inner.set(item);
+        }
+
+        public void add(T item) {
+            this.inner.add(item);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package datastructures.concrete;
+
+import datastructures.interfaces.IList;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unrolled linked list: a doubly linked chain of chunks, where each chunk stores
+ * up to 'chunkCapacity' elements in a small array.
+ *
+ * Compared to DoubleLinkedList, this only needs one node per chunk instead of one
+ * per element, and neighbouring elements sit next to each other in memory. Inserting
+ * or deleting in the middle only shifts the elements within a single chunk, splitting
+ * a chunk when it overflows and merging neighbours when they run low.
+ *
+ * Like DoubleLinkedList, we remember the most recently located chunk, so sequential
+ * indexed access runs in amortized constant time.
+ *
+ * Note: For more info on the expected behavior of your methods, see
+ * the source code for IList.
+ */
+public class UnrolledLinkedList<T> implements IList<T> {
+    private Chunk<T> front;
+    private Chunk<T> back;
+    private int size;
+    private final int chunkCapacity;
+
+    // The most recently located chunk and the index of its first element.
+    // 'cursor' is null when nothing is cached.
+    private Chunk<T> cursor;
+    private int cursorStart;
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2");
+        }
+        this.chunkCapacity = chunkCapacity;
+        this.front = null;
+        this.back = null;
+        this.size = 0;
+        this.cursor = null;
+        this.cursorStart = 0;
+    }
+
+    @Override
+    public void add(T item) {
+        if (this.back == null || this.back.count == this.chunkCapacity) {
+            this.linkAfter(this.back, new Chunk<>(this.chunkCapacity));
+        }
+        this.back.items[this.back.count] = item;
+        this.back.count++;
+        this.size++;
+    }
+
+    @Override
+    public T remove() {
+        if (this.size == 0) {
+            throw new EmptyContainerException();
+        }
+        Chunk<T> chunk = this.back;
+        chunk.count--;
+        T result = chunk.get(chunk.count);
+        chunk.items[chunk.count] = null;
+        this.size--;
+        if (chunk.count == 0) {
+            this.unlink(chunk);
+        }
+        return result;
+    }
+
+    @Override
+    public T get(int index) {
+        this.checkIndex(index);
+        Chunk<T> chunk = this.locate(index);
+        return chunk.get(index - this.cursorStart);
+    }
+
+    @Override
+    public void set(int index, T item) {
+        this.checkIndex(index);
+        Chunk<T> chunk = this.locate(index);
+        chunk.items[index - this.cursorStart] = item;
+    }
+
+    @Override
+    public void insert(int index, T item) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == this.size) {
+            this.add(item);
+            return;
+        }
+        Chunk<T> chunk = this.locate(index);
+        int offset = index - this.cursorStart;
+        if (chunk.count == this.chunkCapacity) {
+            // Move the upper half into a new chunk to make room
+            Chunk<T> newChunk = new Chunk<>(this.chunkCapacity);
+            int half = this.chunkCapacity / 2;
+            int moved = chunk.count - half;
+            System.arraycopy(chunk.items, half, newChunk.items, 0, moved);
+            Arrays.fill(chunk.items, half, chunk.count, null);
+            chunk.count = half;
+            newChunk.count = moved;
+            this.linkAfter(chunk, newChunk);
+            if (offset > half) {
+                // The element goes into the new chunk, which starts right after this one
+                this.cursorStart += half;
+                this.cursor = newChunk;
+                chunk = newChunk;
+                offset -= half;
+            }
+        }
+        System.arraycopy(chunk.items, offset, chunk.items, offset + 1, chunk.count - offset);
+        chunk.items[offset] = item;
+        chunk.count++;
+        this.size++;
+    }
+
+    @Override
+    public T delete(int index) {
+        this.checkIndex(index);
+        Chunk<T> chunk = this.locate(index);
+        int offset = index - this.cursorStart;
+        T result = chunk.get(offset);
+        System.arraycopy(chunk.items, offset + 1, chunk.items, offset, chunk.count - offset - 1);
+        chunk.count--;
+        chunk.items[chunk.count] = null;
+        this.size--;
+
+        if (chunk.count == 0) {
+            this.unlink(chunk);
+        } else if (chunk.next != null && chunk.count + chunk.next.count <= this.chunkCapacity / 2) {
+            // Keep chunks reasonably full by absorbing a sparse neighbour
+            Chunk<T> next = chunk.next;
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            this.unlink(next);
+        }
+        return result;
+    }
+
+    @Override
+    public int indexOf(T item) {
+        int index = 0;
+        for (Chunk<T> chunk = this.front; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                Object curr = chunk.items[i];
+                if (item == null ? curr == null : item.equals(curr)) {
+                    return index + i;
+                }
+            }
+            index += chunk.count;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(T other) {
+        return this.indexOf(other) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator<>(this.front);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        // Positional access is amortized constant time thanks to the cursor,
+        // so an index-based iterator is efficient here.
+        return new IndexedListIterator<>(this);
+    }
+
+    // Returns the chunk containing the given index, starting from whichever of the
+    // front, the back or the cached cursor is closest. Afterwards, 'cursor' is the
+    // returned chunk and 'cursorStart' is the index of its first element.
+    //
+    // Precondition: 0 <= index < size
+    private Chunk<T> locate(int index) {
+        Chunk<T> chunk;
+        int start;
+        if (this.cursor != null
+                && Math.abs(index - this.cursorStart) < Math.min(index, this.size - index)) {
+            chunk = this.cursor;
+            start = this.cursorStart;
+        } else if (index < this.size - index) {
+            chunk = this.front;
+            start = 0;
+        } else {
+            chunk = this.back;
+            start = this.size - this.back.count;
+        }
+        while (index < start) {
+            chunk = chunk.prev;
+            start -= chunk.count;
+        }
+        while (index >= start + chunk.count) {
+            start += chunk.count;
+            chunk = chunk.next;
+        }
+        this.cursor = chunk;
+        this.cursorStart = start;
+        return chunk;
+    }
+
+    private void linkAfter(Chunk<T> pred, Chunk<T> chunk) {
+        chunk.prev = pred;
+        if (pred == null) {
+            chunk.next = this.front;
+            this.front = chunk;
+        } else {
+            chunk.next = pred.next;
+            pred.next = chunk;
+        }
+        if (chunk.next == null) {
+            this.back = chunk;
+        } else {
+            chunk.next.prev = chunk;
+        }
+    }
+
+    private void unlink(Chunk<T> chunk) {
+        if (chunk.prev == null) {
+            this.front = chunk.next;
+        } else {
+            chunk.prev.next = chunk.next;
+        }
+        if (chunk.next == null) {
+            this.back = chunk.prev;
+        } else {
+            chunk.next.prev = chunk.prev;
+        }
+        chunk.prev = null;
+        chunk.next = null;
+        if (this.cursor == chunk) {
+            this.cursor = null;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static class Chunk<E> {
+        public final Object[] items;
+        public int count;
+        public Chunk<E> prev;
+        public Chunk<E> next;
+
+        public Chunk(int capacity) {
+            this.items = new Object[capacity];
+            this.count = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int offset) {
+            return (E) this.items[offset];
+        }
+    }
+
+    private static class UnrolledLinkedListIterator<T> implements Iterator<T> {
+        private Chunk<T> chunk;
+        private int offset;
+
+        public UnrolledLinkedListIterator(Chunk<T> front) {
+            this.chunk = front;
+            this.offset = 0;
+        }
+
+        public boolean hasNext() {
+            return this.chunk != null;
+        }
+
+        public T next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = this.chunk.get(this.offset);
+            this.offset++;
+            if (this.offset == this.chunk.count) {
+                this.chunk = this.chunk.next;
+                this.offset = 0;
+            }
+            return result;
+        }
+    }
+}
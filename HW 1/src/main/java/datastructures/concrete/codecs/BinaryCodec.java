@@ -0,0 +1,91 @@
+package datastructures.concrete.codecs;
+
+import datastructures.interfaces.ICodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A codec built on BinaryWriter and BinaryReader, so codecs for containers can hand
+ * each element to the element's codec without copying it into a byte array of its
+ * own. Strings repeated anywhere in one encoded value are only stored once.
+ *
+ * Subclasses only need to implement 'write' and 'read'.
+ */
+public abstract class BinaryCodec<T> implements ICodec<T> {
+    /**
+     * Stores Strings, which may be null.
+     */
+    public static final BinaryCodec<String> STRINGS = new BinaryCodec<String>() {
+        @Override
+        public void write(BinaryWriter writer, String value) {
+            writer.writeString(value);
+        }
+
+        @Override
+        public String read(BinaryReader reader) {
+            return reader.readString();
+        }
+    };
+
+    /**
+     * Stores non-null Doubles as their eight raw bytes.
+     */
+    public static final BinaryCodec<Double> DOUBLES = new BinaryCodec<Double>() {
+        @Override
+        public void write(BinaryWriter writer, Double value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Cannot encode null");
+            }
+            writer.writeDouble(value);
+        }
+
+        @Override
+        public Double read(BinaryReader reader) {
+            return reader.readDouble();
+        }
+    };
+
+    /**
+     * Writes the given value.
+     *
+     * @throws IllegalArgumentException if this codec cannot represent the value
+     */
+    public abstract void write(BinaryWriter writer, T value);
+
+    /**
+     * Reads back a value written by 'write'.
+     */
+    public abstract T read(BinaryReader reader);
+
+    /**
+     * Writes the given value into the buffer, starting at its current position, and
+     * returns the buffer it ended up in. That is the given buffer unless it filled up,
+     * in which case it is a larger copy. The result is flipped, ready to be read.
+     */
+    public ByteBuffer encode(T value, ByteBuffer buffer) {
+        BinaryWriter writer = new BinaryWriter(buffer);
+        this.write(writer, value);
+        return writer.getBuffer();
+    }
+
+    /**
+     * Reads a value starting at the buffer's current position, and leaves the position
+     * just past it.
+     */
+    public T decode(ByteBuffer buffer) {
+        return this.read(new BinaryReader(buffer));
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        ByteBuffer buffer = this.encode(value, ByteBuffer.allocate(64));
+        byte[] result = new byte[buffer.remaining()];
+        buffer.get(result);
+        return result;
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        return this.decode(ByteBuffer.wrap(bytes));
+    }
+}
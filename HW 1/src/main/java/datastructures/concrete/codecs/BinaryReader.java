@@ -0,0 +1,86 @@
+package datastructures.concrete.codecs;
+
+import datastructures.concrete.ResizingArrayList;
+import datastructures.interfaces.IList;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values written by BinaryWriter from a ByteBuffer, starting at the buffer's
+ * current position. See BinaryWriter for the format.
+ *
+ * Reading past the end of the buffer throws a BufferUnderflowException, and reading
+ * malformed data throws an IllegalArgumentException.
+ */
+public class BinaryReader {
+    private final ByteBuffer buffer;
+    // Every String read so far, indexed by id
+    private final IList<String> strings;
+
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.strings = new ResizingArrayList<>();
+    }
+
+    /**
+     * Returns how many bytes are left to read.
+     */
+    public int remaining() {
+        return this.buffer.remaining();
+    }
+
+    public int readVarInt() {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = this.buffer.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (result < 0) {
+                    throw new IllegalArgumentException("Malformed varint");
+                }
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public double readDouble() {
+        return this.buffer.getDouble();
+    }
+
+    public boolean readBoolean() {
+        return this.buffer.get() != 0;
+    }
+
+    public String readString() {
+        int tag = this.readVarInt();
+        if (tag == 0) {
+            return null;
+        } else if (tag >= 2) {
+            if (tag - 2 >= this.strings.size()) {
+                throw new IllegalArgumentException("Unknown string id " + (tag - 2));
+            }
+            return this.strings.get(tag - 2);
+        }
+
+        int length = this.readVarInt();
+        if (length > this.buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String result;
+        if (this.buffer.hasArray()) {
+            // Decode straight out of the backing array
+            int start = this.buffer.arrayOffset() + this.buffer.position();
+            result = new String(this.buffer.array(), start, length, StandardCharsets.UTF_8);
+            this.buffer.position(this.buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            this.buffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        this.strings.add(result);
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+package datastructures.concrete.codecs;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes values in a compact binary format straight into a ByteBuffer. BinaryReader
+ * reads them back.
+ *
+ * - Integers are varints: seven bits per byte, low bits first, with the top bit of
+ *   each byte set if more bytes follow. Small numbers like lengths take one byte.
+ * - Doubles are their eight raw IEEE 754 bytes.
+ * - Strings are interned: the first time a String is written, it is stored as its
+ *   UTF-8 bytes and given the next id. Every later copy is just a reference to that id.
+ *   So repeated names, like the variables and operators in an AST, cost a byte or two.
+ *
+ * If the buffer runs out of room, the writer moves to one twice as large. Use
+ * 'getBuffer' to get the final buffer once done writing.
+ */
+public class BinaryWriter {
+    private ByteBuffer buffer;
+    private final IDictionary<String, Integer> stringIds;
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    public BinaryWriter() {
+        this(ByteBuffer.allocate(DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Creates a writer that writes into the given buffer, starting at its current position.
+     */
+    public BinaryWriter(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.stringIds = new ChainedHashDictionary<>();
+    }
+
+    /**
+     * Returns the buffer holding everything written so far, flipped so that it is ready
+     * to read from. This may not be the buffer originally passed in, if that filled up.
+     */
+    public ByteBuffer getBuffer() {
+        ByteBuffer result = this.buffer.duplicate();
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Writes a non-negative int.
+     *
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void writeVarInt(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varints must not be negative");
+        }
+        this.ensureRemaining(5);
+        while (value >= 0x80) {
+            this.buffer.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    public void writeDouble(double value) {
+        this.ensureRemaining(8);
+        this.buffer.putDouble(value);
+    }
+
+    public void writeBoolean(boolean value) {
+        this.ensureRemaining(1);
+        this.buffer.put((byte) (value ? 1 : 0));
+    }
+
+    /**
+     * Writes a String, which may be null.
+     */
+    public void writeString(String value) {
+        // 0 means null, 1 means a new String follows, and n + 2 refers to String id n
+        if (value == null) {
+            this.writeVarInt(0);
+            return;
+        }
+        Integer id = this.stringIds.getOrDefault(value, null);
+        if (id != null) {
+            this.writeVarInt(id + 2);
+            return;
+        }
+        this.stringIds.put(value, this.stringIds.size());
+        this.writeVarInt(1);
+
+        int length = value.length();
+        if (isAscii(value)) {
+            // Skip building a byte array for the common case
+            this.writeVarInt(length);
+            this.ensureRemaining(length);
+            for (int i = 0; i < length; i++) {
+                this.buffer.put((byte) value.charAt(i));
+            }
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            this.writeVarInt(bytes.length);
+            this.ensureRemaining(bytes.length);
+            this.buffer.put(bytes);
+        }
+    }
+
+    private void ensureRemaining(int numBytes) {
+        if (this.buffer.remaining() >= numBytes) {
+            return;
+        }
+        int newCapacity = Math.max(this.buffer.capacity() * 2, this.buffer.position() + numBytes);
+        ByteBuffer newBuffer = this.buffer.isDirect()
+                ? ByteBuffer.allocateDirect(newCapacity)
+                : ByteBuffer.allocate(newCapacity);
+        this.buffer.flip();
+        newBuffer.put(this.buffer);
+        this.buffer = newBuffer;
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package datastructures.concrete.codecs;
+
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+
+/**
+ * Stores an IDictionary as its size followed by each key and value, in iteration order.
+ * Dictionaries are decoded into a ChainedHashDictionary sized to hold every pair.
+ */
+public class DictionaryCodec<K, V> extends BinaryCodec<IDictionary<K, V>> {
+    private final BinaryCodec<K> keyCodec;
+    private final BinaryCodec<V> valueCodec;
+
+    public DictionaryCodec(BinaryCodec<K> keyCodec, BinaryCodec<V> valueCodec) {
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+    }
+
+    @Override
+    public void write(BinaryWriter writer, IDictionary<K, V> dict) {
+        if (dict == null) {
+            throw new IllegalArgumentException("Cannot encode null");
+        }
+        writer.writeVarInt(dict.size());
+        // The cursor doesn't allocate a KVPair per entry, unlike the iterator
+        IDictionaryCursor<K, V> cursor = dict.cursor();
+        while (cursor.next()) {
+            this.keyCodec.write(writer, cursor.key());
+            this.valueCodec.write(writer, cursor.value());
+        }
+    }
+
+    @Override
+    public IDictionary<K, V> read(BinaryReader reader) {
+        int size = reader.readVarInt();
+        // Leave room for every pair under the maximum load factor, so the table never
+        // resizes. As in ListCodec, corrupt input can't make this allocate much.
+        int capacity = (int) (Math.min(size, reader.remaining()) / 0.75) + 1;
+        IDictionary<K, V> result = new ChainedHashDictionary<>(capacity);
+        for (int i = 0; i < size; i++) {
+            K key = this.keyCodec.read(reader);
+            result.put(key, this.valueCodec.read(reader));
+        }
+        return result;
+    }
+}
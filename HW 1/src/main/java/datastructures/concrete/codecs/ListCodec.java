@@ -0,0 +1,39 @@
+package datastructures.concrete.codecs;
+
+import datastructures.concrete.ResizingArrayList;
+import datastructures.interfaces.IList;
+
+/**
+ * Stores an IList as its size followed by each element. Lists are decoded into a
+ * ResizingArrayList that is already large enough to hold every element.
+ */
+public class ListCodec<T> extends BinaryCodec<IList<T>> {
+    private final BinaryCodec<T> elementCodec;
+
+    public ListCodec(BinaryCodec<T> elementCodec) {
+        this.elementCodec = elementCodec;
+    }
+
+    @Override
+    public void write(BinaryWriter writer, IList<T> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("Cannot encode null");
+        }
+        writer.writeVarInt(list.size());
+        for (T item : list) {
+            this.elementCodec.write(writer, item);
+        }
+    }
+
+    @Override
+    public IList<T> read(BinaryReader reader) {
+        int size = reader.readVarInt();
+        // Every element takes at least one byte, so this can't allocate much more than
+        // the input is worth even if the input is corrupt
+        IList<T> result = new ResizingArrayList<>(Math.min(size, reader.remaining()));
+        for (int i = 0; i < size; i++) {
+            result.add(this.elementCodec.read(reader));
+        }
+        return result;
+    }
+}
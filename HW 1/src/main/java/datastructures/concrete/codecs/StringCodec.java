@@ -0,0 +1,23 @@
+package datastructures.concrete.codecs;
+
+import datastructures.interfaces.ICodec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stores a String as its UTF-8 bytes. Null Strings are not supported.
+ */
+public class StringCodec implements ICodec<String> {
+    @Override
+    public byte[] encode(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cannot encode null");
+        }
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,14 @@
 package datastructures.concrete.dictionaries;
 
+import datastructures.concrete.KVPair;
 import datastructures.interfaces.IDictionary;
-import misc.exceptions.NotYetImplementedException;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * See IDictionary for more details on what this class should do
@@ -12,9 +19,20 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
     private Pair<K, V>[] pairs;
 
     // You're encouraged to add extra fields (and helper methods) though!
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 8;
 
     public ArrayDictionary() {
-        throw new UnsupportedOperationException();
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayDictionary(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.pairs = makeArrayOfPairs(initialCapacity);
+        this.size = 0;
     }
 
     /**
@@ -41,27 +59,85 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
 
     @Override
     public V get(K key) {
-        throw new NotYetImplementedException();
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return this.pairs[index].value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.indexOf(key);
+        return index == -1 ? defaultValue : this.pairs[index].value;
     }
 
     @Override
     public void put(K key, V value) {
-        throw new NotYetImplementedException();
+        int index = this.indexOf(key);
+        if (index != -1) {
+            this.pairs[index].value = value;
+            return;
+        }
+        if (this.size == this.pairs.length) {
+            Pair<K, V>[] newPairs = makeArrayOfPairs(this.pairs.length * 2);
+            System.arraycopy(this.pairs, 0, newPairs, 0, this.size);
+            this.pairs = newPairs;
+        }
+        this.pairs[this.size] = new Pair<>(key, value);
+        this.size++;
     }
 
     @Override
     public V remove(K key) {
-        throw new NotYetImplementedException();
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        V result = this.pairs[index].value;
+        // Order doesn't matter, so we fill the hole with the last pair
+        // instead of shifting everything after it down by one.
+        this.size--;
+        this.pairs[index] = this.pairs[this.size];
+        this.pairs[this.size] = null;
+        return result;
     }
 
     @Override
     public boolean containsKey(K key) {
-        throw new NotYetImplementedException();
+        return this.indexOf(key) != -1;
     }
 
     @Override
     public int size() {
-        throw new NotYetImplementedException();
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ArrayDictionaryIterator<>(this.pairs, this.size);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ArrayDictionaryCursor<>(this.pairs, this.size);
+    }
+
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        // The pairs sit in one contiguous run, so we can split exactly by index range
+        return new ArrayDictionarySpliterator<>(this.pairs, 0, this.size);
+    }
+
+    // Returns the index of the pair with the given key, or -1 if there is none
+    private int indexOf(K key) {
+        for (int i = 0; i < this.size; i++) {
+            K other = this.pairs[i].key;
+            if (key == null ? other == null : key.equals(other)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     private static class Pair<K, V> {
@@ -79,4 +155,103 @@ public class ArrayDictionary<K, V> implements IDictionary<K, V> {
             return this.key + "=" + this.value;
         }
     }
+
+    private static class ArrayDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final Pair<K, V>[] pairs;
+        private final int size;
+        private int index;
+
+        public ArrayDictionaryIterator(Pair<K, V>[] pairs, int size) {
+            this.pairs = pairs;
+            this.size = size;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Pair<K, V> pair = this.pairs[this.index];
+            this.index++;
+            return new KVPair<>(pair.key, pair.value);
+        }
+    }
+
+    private static class ArrayDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final Pair<K, V>[] pairs;
+        private final int size;
+        private int index;
+
+        public ArrayDictionaryCursor(Pair<K, V>[] pairs, int size) {
+            this.pairs = pairs;
+            this.size = size;
+            this.index = -1;
+        }
+
+        public boolean next() {
+            if (this.index < this.size) {
+                this.index++;
+            }
+            return this.index < this.size;
+        }
+
+        public K key() {
+            return this.current().key;
+        }
+
+        public V value() {
+            return this.current().value;
+        }
+
+        private Pair<K, V> current() {
+            if (this.index < 0 || this.index >= this.size) {
+                throw new IllegalStateException();
+            }
+            return this.pairs[this.index];
+        }
+    }
+
+    private static class ArrayDictionarySpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Pair<K, V>[] pairs;
+        private int index;
+        private final int end;
+
+        public ArrayDictionarySpliterator(Pair<K, V>[] pairs, int start, int end) {
+            this.pairs = pairs;
+            this.index = start;
+            this.end = end;
+        }
+
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            if (this.index >= this.end) {
+                return false;
+            }
+            Pair<K, V> pair = this.pairs[this.index];
+            this.index++;
+            action.accept(new KVPair<>(pair.key, pair.value));
+            return true;
+        }
+
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (this.index + this.end) >>> 1;
+            if (mid <= this.index) {
+                return null;
+            }
+            Spliterator<KVPair<K, V>> prefix = new ArrayDictionarySpliterator<>(this.pairs, this.index, mid);
+            this.index = mid;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return this.end - this.index;
+        }
+
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+/**
+ * Wraps another dictionary with a counting Bloom filter, so that looking up a key
+ * that isn't there usually doesn't touch the wrapped dictionary at all.
+ *
+ * The filter is an array of small counters. Every key bumps NUM_HASHES of them, picked
+ * by its hash code. If any counter for a key is zero, the key is definitely absent;
+ * otherwise we ask the wrapped dictionary. Removing a key decrements its counters again,
+ * so the filter stays accurate without being rebuilt. A counter that reaches its
+ * maximum stays there, which can only cause extra lookups, never wrong answers.
+ *
+ * The filter keeps between 8 and 16 counters per key, resizing as the dictionary grows,
+ * so at most about 2.5% of misses fall through to the wrapped dictionary. This only pays
+ * off when misses are common and the wrapped dictionary's lookups are expensive (long
+ * keys, deep tries, or remote storage).
+ *
+ * The wrapped dictionary must not be modified except through this wrapper.
+ */
+public class BloomFilterDictionary<K, V> implements IDictionary<K, V> {
+    private final IDictionary<K, V> inner;
+    // Unsigned counters; the length is always a power of two
+    private byte[] counters;
+    // The number of bits of the mixed hash we use to pick a counter
+    private int indexBits;
+
+    private static final int NUM_HASHES = 4;
+    private static final int COUNTERS_PER_KEY = 8;
+    private static final int MIN_COUNTERS = 64;
+    private static final int MAX_COUNT = 0xFF;
+
+    public BloomFilterDictionary(IDictionary<K, V> inner) {
+        this.inner = inner;
+        this.rebuild();
+    }
+
+    /**
+     * Clears the filter and fills it in again from the wrapped dictionary's keys.
+     *
+     * The filter never needs this to stay correct, but rebuilding clears any counters
+     * that were stuck at their maximum value.
+     */
+    public void rebuild() {
+        int capacity = MIN_COUNTERS;
+        while (capacity < this.inner.size() * COUNTERS_PER_KEY * 2) {
+            capacity *= 2;
+        }
+        if (this.counters != null && this.counters.length == capacity) {
+            Arrays.fill(this.counters, (byte) 0);
+        } else {
+            this.counters = new byte[capacity];
+            this.indexBits = Integer.numberOfTrailingZeros(capacity);
+        }
+        IDictionaryCursor<K, V> cursor = this.inner.cursor();
+        while (cursor.next()) {
+            this.addToFilter(cursor.key());
+        }
+    }
+
+    /**
+     * Returns false if 'key' is definitely not in this dictionary, and true if it might be.
+     */
+    public boolean mightContainKey(K key) {
+        int hash = spread(key);
+        int step = secondHash(hash);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (this.counters[this.indexFor(hash + i * step)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public V get(K key) {
+        if (!this.mightContainKey(key)) {
+            throw new NoSuchKeyException();
+        }
+        return this.inner.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        if (!this.mightContainKey(key)) {
+            return defaultValue;
+        }
+        return this.inner.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int oldSize = this.inner.size();
+        this.inner.put(key, value);
+        if (this.inner.size() == oldSize) {
+            // We only overwrote a value, so the filter already has this key
+            return;
+        }
+        if (this.inner.size() * COUNTERS_PER_KEY > this.counters.length) {
+            this.rebuild();
+        } else {
+            this.addToFilter(key);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        if (!this.mightContainKey(key)) {
+            throw new NoSuchKeyException();
+        }
+        V result = this.inner.remove(key);
+        this.removeFromFilter(key);
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.mightContainKey(key) && this.inner.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.inner.size();
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return this.inner.iterator();
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return this.inner.cursor();
+    }
+
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        return this.inner.spliterator();
+    }
+
+    private void addToFilter(K key) {
+        int hash = spread(key);
+        int step = secondHash(hash);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int index = this.indexFor(hash + i * step);
+            int count = this.counters[index] & MAX_COUNT;
+            if (count < MAX_COUNT) {
+                this.counters[index] = (byte) (count + 1);
+            }
+        }
+    }
+
+    // Precondition: 'key' was added to the filter
+    private void removeFromFilter(K key) {
+        int hash = spread(key);
+        int step = secondHash(hash);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            int index = this.indexFor(hash + i * step);
+            int count = this.counters[index] & MAX_COUNT;
+            // A saturated counter may be shared by more keys than it can count, so it
+            // has to stay put
+            if (count < MAX_COUNT) {
+                this.counters[index] = (byte) (count - 1);
+            }
+        }
+    }
+
+    // Uses the top bits, which multiplication mixes best
+    private int indexFor(int hash) {
+        return (hash * 0x9E3779B9) >>> (32 - this.indexBits);
+    }
+
+    private static int spread(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    // The step between a key's counters, derived from its hash. It must be odd so the
+    // probes don't collapse onto the same counter.
+    private static int secondHash(int hash) {
+        return (Integer.rotateLeft(hash, 16) * 0x85EBCA6B) | 1;
+    }
+}
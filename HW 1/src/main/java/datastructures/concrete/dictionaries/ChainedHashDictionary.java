@@ -0,0 +1,321 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A hash table using separate chaining. Each bucket holds a singly linked chain
+ * of entries, and the table doubles in size whenever the load factor exceeds
+ * MAX_LOAD_FACTOR, so get, put, remove and containsKey all run in amortized
+ * constant time.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class ChainedHashDictionary<K, V> implements IDictionary<K, V> {
+    private Entry<K, V>[] chains;
+    private int size;
+
+    // The capacity is always a power of two, so we can pick a bucket with a mask
+    // instead of a modulo.
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    public ChainedHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ChainedHashDictionary(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        int capacity = 1;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        this.chains = makeArrayOfChains(capacity);
+        this.size = 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Entry<K, V>[] makeArrayOfChains(int arraySize) {
+        return (Entry<K, V>[]) new Entry[arraySize];
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = this.findEntry(key);
+        if (entry == null) {
+            throw new NoSuchKeyException();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Entry<K, V> entry = this.findEntry(key);
+        return entry == null ? defaultValue : entry.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int index = hash & (this.chains.length - 1);
+        for (Entry<K, V> curr = this.chains[index]; curr != null; curr = curr.next) {
+            if (curr.hash == hash && keysEqual(key, curr.key)) {
+                curr.value = value;
+                return;
+            }
+        }
+        this.chains[index] = new Entry<>(hash, key, value, this.chains[index]);
+        this.size++;
+        if (this.size > this.chains.length * MAX_LOAD_FACTOR) {
+            this.resize(this.chains.length * 2);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        int index = hash & (this.chains.length - 1);
+        Entry<K, V> prev = null;
+        for (Entry<K, V> curr = this.chains[index]; curr != null; curr = curr.next) {
+            if (curr.hash == hash && keysEqual(key, curr.key)) {
+                if (prev == null) {
+                    this.chains[index] = curr.next;
+                } else {
+                    prev.next = curr.next;
+                }
+                this.size--;
+                return curr.value;
+            }
+            prev = curr;
+        }
+        throw new NoSuchKeyException();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findEntry(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ChainedHashDictionaryIterator<>(this.chains);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ChainedHashDictionaryCursor<>(this.chains);
+    }
+
+    @Override
+    public Spliterator<KVPair<K, V>> spliterator() {
+        // Splits by bucket range; sizes after a split are estimates, as in java.util.HashMap
+        return new ChainedHashDictionarySpliterator<>(this.chains, 0, this.chains.length, this.size);
+    }
+
+    private Entry<K, V> findEntry(K key) {
+        int hash = hash(key);
+        Entry<K, V> curr = this.chains[hash & (this.chains.length - 1)];
+        while (curr != null) {
+            if (curr.hash == hash && keysEqual(key, curr.key)) {
+                return curr;
+            }
+            curr = curr.next;
+        }
+        return null;
+    }
+
+    // Moves every entry into a new table of the given capacity. Entries keep
+    // their cached hash, so we never call hashCode() again while rehashing.
+    private void resize(int newCapacity) {
+        Entry<K, V>[] newChains = makeArrayOfChains(newCapacity);
+        for (Entry<K, V> chain : this.chains) {
+            Entry<K, V> curr = chain;
+            while (curr != null) {
+                Entry<K, V> next = curr.next;
+                int index = curr.hash & (newCapacity - 1);
+                curr.next = newChains[index];
+                newChains[index] = curr;
+                curr = next;
+            }
+        }
+        this.chains = newChains;
+    }
+
+    // Mixes the high bits of the hash code into the low bits, since only the
+    // low bits are used to pick a bucket.
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private static class Entry<K, V> {
+        public final int hash;
+        public final K key;
+        public V value;
+        public Entry<K, V> next;
+
+        public Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private static class ChainedHashDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final Entry<K, V>[] chains;
+        // The index of the bucket after the one 'next' came from
+        private int bucket;
+        private Entry<K, V> next;
+
+        public ChainedHashDictionaryIterator(Entry<K, V>[] chains) {
+            this.chains = chains;
+            this.bucket = 0;
+            this.next = null;
+            this.advance();
+        }
+
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> result = this.next;
+            this.next = result.next;
+            if (this.next == null) {
+                this.advance();
+            }
+            return new KVPair<>(result.key, result.value);
+        }
+
+        // Moves 'next' to the head of the next non-empty bucket, if any
+        private void advance() {
+            while (this.next == null && this.bucket < this.chains.length) {
+                this.next = this.chains[this.bucket];
+                this.bucket++;
+            }
+        }
+    }
+
+    private static class ChainedHashDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final Entry<K, V>[] chains;
+        // The index of the bucket after the one 'curr' came from
+        private int bucket;
+        private Entry<K, V> curr;
+
+        public ChainedHashDictionaryCursor(Entry<K, V>[] chains) {
+            this.chains = chains;
+            this.bucket = 0;
+            this.curr = null;
+        }
+
+        public boolean next() {
+            if (this.curr != null) {
+                this.curr = this.curr.next;
+            }
+            while (this.curr == null && this.bucket < this.chains.length) {
+                this.curr = this.chains[this.bucket];
+                this.bucket++;
+            }
+            return this.curr != null;
+        }
+
+        public K key() {
+            return this.current().key;
+        }
+
+        public V value() {
+            return this.current().value;
+        }
+
+        private Entry<K, V> current() {
+            if (this.curr == null) {
+                throw new IllegalStateException();
+            }
+            return this.curr;
+        }
+    }
+
+    private static class ChainedHashDictionarySpliterator<K, V> implements Spliterator<KVPair<K, V>> {
+        private final Entry<K, V>[] chains;
+        private int bucket;
+        private final int end;
+        private Entry<K, V> curr;
+        private long estimate;
+        // Whether 'estimate' is exact, which is only the case before the first split
+        private boolean exact;
+
+        public ChainedHashDictionarySpliterator(Entry<K, V>[] chains, int start, int end, long estimate) {
+            this.chains = chains;
+            this.bucket = start;
+            this.end = end;
+            this.curr = null;
+            this.estimate = estimate;
+            this.exact = start == 0 && end == chains.length;
+        }
+
+        public boolean tryAdvance(Consumer<? super KVPair<K, V>> action) {
+            while (this.curr == null && this.bucket < this.end) {
+                this.curr = this.chains[this.bucket];
+                this.bucket++;
+            }
+            if (this.curr == null) {
+                return false;
+            }
+            Entry<K, V> entry = this.curr;
+            this.curr = entry.next;
+            action.accept(new KVPair<>(entry.key, entry.value));
+            return true;
+        }
+
+        public Spliterator<KVPair<K, V>> trySplit() {
+            int mid = (this.bucket + this.end) >>> 1;
+            if (this.curr != null || mid <= this.bucket) {
+                return null;
+            }
+            this.estimate >>>= 1;
+            this.exact = false;
+            Spliterator<KVPair<K, V>> prefix =
+                    new ChainedHashDictionarySpliterator<>(this.chains, this.bucket, mid, this.estimate);
+            this.bucket = mid;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return this.estimate;
+        }
+
+        public int characteristics() {
+            return (this.exact ? Spliterator.SIZED : 0) | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+}
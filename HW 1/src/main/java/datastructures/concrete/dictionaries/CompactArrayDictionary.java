@@ -0,0 +1,224 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An unsorted array dictionary like ArrayDictionary, but laid out as parallel arrays
+ * of keys and values instead of an array of Pair objects. This saves a Pair header
+ * and pointer per entry, and a lookup scans one contiguous array of keys rather than
+ * following a pointer to each pair.
+ *
+ * If 'cacheHashes' is set, the dictionary also keeps every key's hash code in an int
+ * array and only calls 'equals' on keys whose hash matches. This is worth it when
+ * 'equals' is expensive (long Strings, for example), at the cost of four bytes per entry.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class CompactArrayDictionary<K, V> implements IDictionary<K, V> {
+    private Object[] keys;
+    private Object[] values;
+    // Null unless we're caching hash codes
+    private int[] hashes;
+    private int size;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    public CompactArrayDictionary() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    public CompactArrayDictionary(int initialCapacity, boolean cacheHashes) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        this.keys = new Object[initialCapacity];
+        this.values = new Object[initialCapacity];
+        this.hashes = cacheHashes ? new int[initialCapacity] : null;
+        this.size = 0;
+    }
+
+    @Override
+    public V get(K key) {
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        return this.valueAt(index);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        int index = this.indexOf(key);
+        return index == -1 ? defaultValue : this.valueAt(index);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int index = this.indexOf(key);
+        if (index != -1) {
+            this.values[index] = value;
+            return;
+        }
+        if (this.size == this.keys.length) {
+            int newCapacity = this.keys.length * 2;
+            this.keys = Arrays.copyOf(this.keys, newCapacity);
+            this.values = Arrays.copyOf(this.values, newCapacity);
+            if (this.hashes != null) {
+                this.hashes = Arrays.copyOf(this.hashes, newCapacity);
+            }
+        }
+        this.keys[this.size] = key;
+        this.values[this.size] = value;
+        if (this.hashes != null) {
+            this.hashes[this.size] = hash(key);
+        }
+        this.size++;
+    }
+
+    @Override
+    public V remove(K key) {
+        int index = this.indexOf(key);
+        if (index == -1) {
+            throw new NoSuchKeyException();
+        }
+        V result = this.valueAt(index);
+        // Order doesn't matter, so we fill the hole with the last entry
+        this.size--;
+        this.keys[index] = this.keys[this.size];
+        this.values[index] = this.values[this.size];
+        if (this.hashes != null) {
+            this.hashes[index] = this.hashes[this.size];
+        }
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.indexOf(key) != -1;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new CompactArrayDictionaryIterator<>(this.keys, this.values, this.size);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new CompactArrayDictionaryCursor<>(this.keys, this.values, this.size);
+    }
+
+    // Returns the index of the entry with the given key, or -1 if there is none
+    private int indexOf(K key) {
+        Object[] keys = this.keys;
+        if (this.hashes == null) {
+            for (int i = 0; i < this.size; i++) {
+                if (keysEqual(key, keys[i])) {
+                    return i;
+                }
+            }
+        } else {
+            int[] hashes = this.hashes;
+            int hash = hash(key);
+            for (int i = 0; i < this.size; i++) {
+                if (hashes[i] == hash && keysEqual(key, keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return (V) this.values[index];
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private static class CompactArrayDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final Object[] keys;
+        private final Object[] values;
+        private final int size;
+        private int index;
+
+        public CompactArrayDictionaryIterator(Object[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+            this.index = 0;
+        }
+
+        public boolean hasNext() {
+            return this.index < this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>((K) this.keys[this.index], (V) this.values[this.index]);
+            this.index++;
+            return result;
+        }
+    }
+
+    private static class CompactArrayDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final Object[] keys;
+        private final Object[] values;
+        private final int size;
+        private int index;
+
+        public CompactArrayDictionaryCursor(Object[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+            this.index = -1;
+        }
+
+        public boolean next() {
+            if (this.index < this.size) {
+                this.index++;
+            }
+            return this.index < this.size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public K key() {
+            this.checkCurrent();
+            return (K) this.keys[this.index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public V value() {
+            this.checkCurrent();
+            return (V) this.values[this.index];
+        }
+
+        private void checkCurrent() {
+            if (this.index < 0 || this.index >= this.size) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
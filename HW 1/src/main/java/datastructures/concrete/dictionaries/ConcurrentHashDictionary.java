@@ -0,0 +1,316 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe hash table using separate chaining.
+ *
+ * Reads never lock: get, getOrDefault and containsKey walk the chains through
+ * volatile links, so they always see a consistent chain even while another
+ * thread is writing. Writes lock only one of NUM_STRIPES stripes, so threads
+ * touching different parts of the table do not wait on each other. Resizing
+ * copies every chain into a fresh table before publishing it, so readers keep
+ * running against the old table in the meantime.
+ *
+ * Iterators are weakly consistent: they never throw because of concurrent
+ * modification, but may or may not reflect changes made after they were created.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class ConcurrentHashDictionary<K, V> implements IDictionary<K, V> {
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+
+    // Bucket i belongs to stripe (i & (NUM_STRIPES - 1)). Since the capacity is a
+    // power of two that is never smaller than NUM_STRIPES, a key stays in the same
+    // stripe no matter how often the table is resized.
+    private final ReentrantLock[] locks;
+    // The number of entries in each stripe, only changed while holding its lock
+    private final AtomicIntegerArray counts;
+
+    private static final int NUM_STRIPES = 16;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    public ConcurrentHashDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentHashDictionary(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive");
+        }
+        int capacity = NUM_STRIPES;
+        while (capacity < initialCapacity) {
+            capacity *= 2;
+        }
+        this.table = new AtomicReferenceArray<>(capacity);
+        this.locks = new ReentrantLock[NUM_STRIPES];
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            this.locks[i] = new ReentrantLock();
+        }
+        this.counts = new AtomicIntegerArray(NUM_STRIPES);
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = this.findNode(key);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = this.findNode(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        int hash = hash(key);
+        int stripe = hash & (NUM_STRIPES - 1);
+        AtomicReferenceArray<Node<K, V>> resizeFrom = null;
+        ReentrantLock lock = this.locks[stripe];
+        lock.lock();
+        try {
+            // Resizing holds every lock, so the table can't change underneath us here
+            AtomicReferenceArray<Node<K, V>> tab = this.table;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> head = tab.get(index);
+            for (Node<K, V> curr = head; curr != null; curr = curr.next) {
+                if (curr.hash == hash && keysEqual(key, curr.key)) {
+                    curr.value = value;
+                    return;
+                }
+            }
+            tab.set(index, new Node<>(hash, key, value, head));
+            int count = this.counts.incrementAndGet(stripe);
+            if (count > tab.length() * MAX_LOAD_FACTOR / NUM_STRIPES) {
+                resizeFrom = tab;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (resizeFrom != null) {
+            this.resize(resizeFrom);
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        int stripe = hash & (NUM_STRIPES - 1);
+        ReentrantLock lock = this.locks[stripe];
+        lock.lock();
+        try {
+            AtomicReferenceArray<Node<K, V>> tab = this.table;
+            int index = hash & (tab.length() - 1);
+            Node<K, V> prev = null;
+            for (Node<K, V> curr = tab.get(index); curr != null; curr = curr.next) {
+                if (curr.hash == hash && keysEqual(key, curr.key)) {
+                    // A reader standing on 'curr' can still follow its link onwards
+                    if (prev == null) {
+                        tab.set(index, curr.next);
+                    } else {
+                        prev.next = curr.next;
+                    }
+                    this.counts.decrementAndGet(stripe);
+                    return curr.value;
+                }
+                prev = curr;
+            }
+            throw new NoSuchKeyException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findNode(key) != null;
+    }
+
+    /**
+     * Returns the number of key-value pairs in this dictionary. If other threads are
+     * writing at the same time, the result may be slightly out of date.
+     */
+    @Override
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            total += this.counts.get(i);
+        }
+        return total;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new ConcurrentHashDictionaryIterator<>(this.table);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new ConcurrentHashDictionaryCursor<>(this.table);
+    }
+
+    private Node<K, V> findNode(K key) {
+        int hash = hash(key);
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+        Node<K, V> curr = tab.get(hash & (tab.length() - 1));
+        while (curr != null) {
+            if (curr.hash == hash && keysEqual(key, curr.key)) {
+                return curr;
+            }
+            curr = curr.next;
+        }
+        return null;
+    }
+
+    // Doubles the table, unless another thread already replaced 'oldTable' after we
+    // decided to. Every chain is copied into new nodes instead of being relinked,
+    // since readers may still be walking the old chains.
+    private void resize(AtomicReferenceArray<Node<K, V>> oldTable) {
+        for (ReentrantLock lock : this.locks) {
+            lock.lock();
+        }
+        try {
+            if (this.table != oldTable) {
+                return;
+            }
+            int oldCapacity = oldTable.length();
+            int newCapacity = oldCapacity * 2;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(newCapacity);
+            for (int i = 0; i < oldCapacity; i++) {
+                for (Node<K, V> curr = oldTable.get(i); curr != null; curr = curr.next) {
+                    int index = curr.hash & (newCapacity - 1);
+                    newTable.set(index, new Node<>(curr.hash, curr.key, curr.value, newTable.get(index)));
+                }
+            }
+            this.table = newTable;
+        } finally {
+            for (ReentrantLock lock : this.locks) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Mixes the high bits of the hash code into the low bits, since only the
+    // low bits are used to pick a bucket.
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private static class Node<K, V> {
+        public final int hash;
+        public final K key;
+        public volatile V value;
+        public volatile Node<K, V> next;
+
+        public Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private static class ConcurrentHashDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> table;
+        // The index of the bucket after the one 'curr' came from
+        private int bucket;
+        private Node<K, V> curr;
+
+        public ConcurrentHashDictionaryCursor(AtomicReferenceArray<Node<K, V>> table) {
+            this.table = table;
+            this.bucket = 0;
+            this.curr = null;
+        }
+
+        public boolean next() {
+            if (this.curr != null) {
+                this.curr = this.curr.next;
+            }
+            while (this.curr == null && this.bucket < this.table.length()) {
+                this.curr = this.table.get(this.bucket);
+                this.bucket++;
+            }
+            return this.curr != null;
+        }
+
+        public K key() {
+            return this.current().key;
+        }
+
+        public V value() {
+            return this.current().value;
+        }
+
+        private Node<K, V> current() {
+            if (this.curr == null) {
+                throw new IllegalStateException();
+            }
+            return this.curr;
+        }
+    }
+
+    private static class ConcurrentHashDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final AtomicReferenceArray<Node<K, V>> table;
+        // The index of the bucket after the one 'next' came from
+        private int bucket;
+        private Node<K, V> next;
+
+        public ConcurrentHashDictionaryIterator(AtomicReferenceArray<Node<K, V>> table) {
+            this.table = table;
+            this.bucket = 0;
+            this.next = null;
+            this.advance();
+        }
+
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> result = this.next;
+            this.next = result.next;
+            if (this.next == null) {
+                this.advance();
+            }
+            return new KVPair<>(result.key, result.value);
+        }
+
+        // Moves 'next' to the head of the next non-empty bucket, if any
+        private void advance() {
+            while (this.next == null && this.bucket < this.table.length()) {
+                this.next = this.table.get(this.bucket);
+                this.bucket++;
+            }
+        }
+    }
+}
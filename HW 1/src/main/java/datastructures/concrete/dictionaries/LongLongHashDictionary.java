@@ -0,0 +1,365 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import misc.exceptions.NoSuchKeyException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary mapping primitive longs to primitive longs, using open addressing
+ * with linear probing.
+ *
+ * Keys and values are stored side by side in a single table, either a long[] on the
+ * heap or (optionally) a direct ByteBuffer outside of it, so no boxed Long or entry
+ * object is ever created. Removal shifts later entries of the probe run back instead
+ * of leaving tombstones, so lookups never slow down after many removals.
+ *
+ * Use 'asDictionary()' to pass this dictionary to code expecting an IDictionary.
+ */
+public class LongLongHashDictionary {
+    // Slot i holds its key at position 2i and its value at position 2i + 1.
+    // Exactly one of 'table' and 'buffer' is non-null.
+    private long[] table;
+    private ByteBuffer buffer;
+    private final boolean offHeap;
+    private int capacity;
+    private int size;
+
+    // An empty slot is marked by having EMPTY_KEY as its key, so the key EMPTY_KEY
+    // itself is stored separately.
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+
+    private static final long EMPTY_KEY = 0L;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    // Keeps 16 * capacity within the limits of a single ByteBuffer (about 50 million entries)
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    public LongLongHashDictionary() {
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Creates a dictionary that can hold 'expectedSize' entries without resizing.
+     * If 'offHeap' is true, the table lives in direct memory rather than on the Java heap.
+     */
+    public LongLongHashDictionary(int expectedSize, boolean offHeap) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        this.offHeap = offHeap;
+        this.allocate(capacityFor(expectedSize));
+        this.size = 0;
+        this.hasEmptyKey = false;
+    }
+
+    /**
+     * Returns the value corresponding to the given key.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long get(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.emptyKeyValue;
+        }
+        int slot = this.findSlot(key);
+        if (this.keyAt(slot) == EMPTY_KEY) {
+            throw new NoSuchKeyException();
+        }
+        return this.valueAt(slot);
+    }
+
+    /**
+     * Returns the value corresponding to the given key, or 'defaultValue' if there is none.
+     */
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey ? this.emptyKeyValue : defaultValue;
+        }
+        int slot = this.findSlot(key);
+        return this.keyAt(slot) == EMPTY_KEY ? defaultValue : this.valueAt(slot);
+    }
+
+    /**
+     * Adds the key-value pair to the dictionary, replacing any existing value for the key.
+     */
+    public void put(long key, long value) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                this.hasEmptyKey = true;
+                this.size++;
+            }
+            this.emptyKeyValue = value;
+            return;
+        }
+        int slot = this.findSlot(key);
+        if (this.keyAt(slot) == EMPTY_KEY) {
+            this.setSlot(slot, key, value);
+            this.size++;
+            if (this.size > this.capacity * MAX_LOAD_FACTOR) {
+                this.resize(this.capacity * 2);
+            }
+        } else {
+            this.setSlot(slot, key, value);
+        }
+    }
+
+    /**
+     * Removes the given key and returns its value.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public long remove(long key) {
+        if (key == EMPTY_KEY) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            this.hasEmptyKey = false;
+            this.size--;
+            return this.emptyKeyValue;
+        }
+        int slot = this.findSlot(key);
+        if (this.keyAt(slot) == EMPTY_KEY) {
+            throw new NoSuchKeyException();
+        }
+        long result = this.valueAt(slot);
+        this.shiftBack(slot);
+        this.size--;
+        return result;
+    }
+
+    /**
+     * Returns 'true' if the dictionary contains the given key and 'false' otherwise.
+     */
+    public boolean containsKey(long key) {
+        if (key == EMPTY_KEY) {
+            return this.hasEmptyKey;
+        }
+        return this.keyAt(this.findSlot(key)) != EMPTY_KEY;
+    }
+
+    /**
+     * Returns the number of key-value pairs stored in this dictionary.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns an IDictionary view of this dictionary. Changes through either are
+     * visible in both. The view does not accept null keys or values, and boxes
+     * every key and value that passes through it.
+     */
+    public IDictionary<Long, Long> asDictionary() {
+        return new BoxedView(this);
+    }
+
+    // Returns the slot containing the given key, or the empty slot where it would go.
+    private int findSlot(long key) {
+        int mask = this.capacity - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            long curr = this.keyAt(slot);
+            if (curr == key || curr == EMPTY_KEY) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // Empties the given slot, then moves any later entries in the same probe run
+    // back so that every remaining key is still reachable from its home slot.
+    private void shiftBack(int slot) {
+        int mask = this.capacity - 1;
+        int hole = slot;
+        int curr = (slot + 1) & mask;
+        while (true) {
+            long key = this.keyAt(curr);
+            if (key == EMPTY_KEY) {
+                break;
+            }
+            int home = hash(key) & mask;
+            // Move the entry if the hole lies cyclically between its home slot and its current slot
+            boolean movable = hole <= curr ? (home <= hole || home > curr) : (home <= hole && home > curr);
+            if (movable) {
+                this.setSlot(hole, key, this.valueAt(curr));
+                hole = curr;
+            }
+            curr = (curr + 1) & mask;
+        }
+        this.setSlot(hole, EMPTY_KEY, 0L);
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Dictionary is too large");
+        }
+        long[] oldTable = this.table;
+        ByteBuffer oldBuffer = this.buffer;
+        int oldCapacity = this.capacity;
+        this.allocate(newCapacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            long key = oldTable != null ? oldTable[2 * i] : oldBuffer.getLong(16 * i);
+            if (key != EMPTY_KEY) {
+                long value = oldTable != null ? oldTable[2 * i + 1] : oldBuffer.getLong(16 * i + 8);
+                this.setSlot(this.findSlot(key), key, value);
+            }
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        this.capacity = newCapacity;
+        if (this.offHeap) {
+            // Direct buffers are zero-filled, so every slot starts out empty
+            this.buffer = ByteBuffer.allocateDirect(16 * newCapacity).order(ByteOrder.nativeOrder());
+            this.table = null;
+        } else {
+            this.table = new long[2 * newCapacity];
+            this.buffer = null;
+        }
+    }
+
+    private long keyAt(int slot) {
+        return this.table != null ? this.table[2 * slot] : this.buffer.getLong(16 * slot);
+    }
+
+    private long valueAt(int slot) {
+        return this.table != null ? this.table[2 * slot + 1] : this.buffer.getLong(16 * slot + 8);
+    }
+
+    private void setSlot(int slot, long key, long value) {
+        if (this.table != null) {
+            this.table[2 * slot] = key;
+            this.table[2 * slot + 1] = value;
+        } else {
+            this.buffer.putLong(16 * slot, key);
+            this.buffer.putLong(16 * slot + 8, value);
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * MAX_LOAD_FACTOR < expectedSize) {
+            if (capacity >= MAX_CAPACITY) {
+                throw new IllegalArgumentException("Expected size is too large");
+            }
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    // The MurmurHash3 64-bit finalizer: spreads sequential keys across the table
+    private static int hash(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static class BoxedView implements IDictionary<Long, Long> {
+        private final LongLongHashDictionary inner;
+
+        public BoxedView(LongLongHashDictionary inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public Long get(Long key) {
+            if (key == null) {
+                throw new NoSuchKeyException();
+            }
+            return this.inner.get(key);
+        }
+
+        @Override
+        public Long getOrDefault(Long key, Long defaultValue) {
+            if (key == null || !this.inner.containsKey(key)) {
+                return defaultValue;
+            }
+            return this.inner.get(key);
+        }
+
+        @Override
+        public void put(Long key, Long value) {
+            if (key == null || value == null) {
+                throw new IllegalArgumentException("Keys and values must not be null");
+            }
+            this.inner.put(key, value);
+        }
+
+        @Override
+        public Long remove(Long key) {
+            if (key == null) {
+                throw new NoSuchKeyException();
+            }
+            return this.inner.remove(key);
+        }
+
+        @Override
+        public boolean containsKey(Long key) {
+            return key != null && this.inner.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.inner.size();
+        }
+
+        @Override
+        public Iterator<KVPair<Long, Long>> iterator() {
+            return new BoxedViewIterator(this.inner);
+        }
+    }
+
+    private static class BoxedViewIterator implements Iterator<KVPair<Long, Long>> {
+        private final LongLongHashDictionary inner;
+        // The next slot to look at, or -1 if the entry for EMPTY_KEY comes first
+        private int slot;
+
+        public BoxedViewIterator(LongLongHashDictionary inner) {
+            this.inner = inner;
+            this.slot = inner.hasEmptyKey ? -1 : 0;
+            this.skipEmptySlots();
+        }
+
+        public boolean hasNext() {
+            return this.slot < this.inner.capacity;
+        }
+
+        public KVPair<Long, Long> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<Long, Long> result;
+            if (this.slot == -1) {
+                result = new KVPair<>(EMPTY_KEY, this.inner.emptyKeyValue);
+            } else {
+                result = new KVPair<>(this.inner.keyAt(this.slot), this.inner.valueAt(this.slot));
+            }
+            this.slot++;
+            this.skipEmptySlots();
+            return result;
+        }
+
+        private void skipEmptySlots() {
+            while (this.slot >= 0 && this.slot < this.inner.capacity && this.inner.keyAt(this.slot) == EMPTY_KEY) {
+                this.slot++;
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+/**
+ * A dictionary that holds at most 'capacity' entries. Adding a new key to a full cache
+ * evicts the least recently used entry first, so this works as a bounded memo table.
+ *
+ * Every entry is a node in a doubly linked list ordered from least to most recently
+ * used, and a ChainedHashDictionary maps each key to its node. A lookup finds the node
+ * through the hash table and moves it to the back of the list by relinking it in place,
+ * so get, put and remove all run in amortized constant time.
+ *
+ * 'get' and 'getOrDefault' count as uses and update the hit and miss counters;
+ * 'containsKey' does neither. Iteration runs from least to most recently used.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class LruCacheDictionary<K, V> implements IDictionary<K, V> {
+    private final IDictionary<K, Node<K, V>> index;
+    private final int capacity;
+    // Called with every entry evicted to make room, or null
+    private final BiConsumer<K, V> onEviction;
+
+    // The least and most recently used entries
+    private Node<K, V> front;
+    private Node<K, V> back;
+
+    private long hits;
+    private long misses;
+
+    public LruCacheDictionary(int capacity) {
+        this(capacity, null);
+    }
+
+    public LruCacheDictionary(int capacity, BiConsumer<K, V> onEviction) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.index = new ChainedHashDictionary<>();
+        this.capacity = capacity;
+        this.onEviction = onEviction;
+        this.front = null;
+        this.back = null;
+        this.hits = 0L;
+        this.misses = 0L;
+    }
+
+    /**
+     * Returns the maximum number of entries this cache holds.
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of calls to 'get' or 'getOrDefault' that found their key.
+     */
+    public long getHitCount() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of calls to 'get' or 'getOrDefault' that did not find their key.
+     */
+    public long getMissCount() {
+        return this.misses;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = this.index.getOrDefault(key, null);
+        if (node == null) {
+            this.misses++;
+            throw new NoSuchKeyException();
+        }
+        this.hits++;
+        this.moveToBack(node);
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = this.index.getOrDefault(key, null);
+        if (node == null) {
+            this.misses++;
+            return defaultValue;
+        }
+        this.hits++;
+        this.moveToBack(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        Node<K, V> node = this.index.getOrDefault(key, null);
+        if (node != null) {
+            node.value = value;
+            this.moveToBack(node);
+            return;
+        }
+        if (this.index.size() == this.capacity) {
+            Node<K, V> eldest = this.front;
+            this.unlink(eldest);
+            this.index.remove(eldest.key);
+            if (this.onEviction != null) {
+                this.onEviction.accept(eldest.key, eldest.value);
+            }
+        }
+        node = new Node<>(key, value);
+        this.linkLast(node);
+        this.index.put(key, node);
+    }
+
+    @Override
+    public V remove(K key) {
+        Node<K, V> node = this.index.remove(key);
+        this.unlink(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return this.index.size();
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new LruCacheDictionaryIterator<>(this.front);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new LruCacheDictionaryCursor<>(this.front);
+    }
+
+    private void moveToBack(Node<K, V> node) {
+        if (node != this.back) {
+            this.unlink(node);
+            this.linkLast(node);
+        }
+    }
+
+    private void linkLast(Node<K, V> node) {
+        node.prev = this.back;
+        node.next = null;
+        if (this.back == null) {
+            this.front = node;
+        } else {
+            this.back.next = node;
+        }
+        this.back = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.prev == null) {
+            this.front = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            this.back = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static class Node<K, V> {
+        public final K key;
+        public V value;
+        public Node<K, V> prev;
+        public Node<K, V> next;
+
+        public Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private static class LruCacheDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private Node<K, V> current;
+
+        public LruCacheDictionaryIterator(Node<K, V> current) {
+            this.current = current;
+        }
+
+        public boolean hasNext() {
+            return this.current != null;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(this.current.key, this.current.value);
+            this.current = this.current.next;
+            return result;
+        }
+    }
+
+    private static class LruCacheDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        // The node to visit next, and the one we're on now
+        private Node<K, V> next;
+        private Node<K, V> current;
+
+        public LruCacheDictionaryCursor(Node<K, V> front) {
+            this.next = front;
+            this.current = null;
+        }
+
+        public boolean next() {
+            this.current = this.next;
+            if (this.current != null) {
+                this.next = this.current.next;
+            }
+            return this.current != null;
+        }
+
+        public K key() {
+            this.checkCurrent();
+            return this.current.key;
+        }
+
+        public V value() {
+            this.checkCurrent();
+            return this.current.value;
+        }
+
+        private void checkCurrent() {
+            if (this.current == null) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
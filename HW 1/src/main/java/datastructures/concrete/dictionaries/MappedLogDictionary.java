@@ -0,0 +1,450 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.ICodec;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary stored in a file, so its contents survive after the program exits.
+ *
+ * The file is an append-only log of records. Every put appends the encoded key and
+ * value, and every remove appends a "tombstone" for the key; nothing is ever changed
+ * in place. The file is memory-mapped, so appending and reading records are plain
+ * memory accesses, and the operating system writes the pages back in its own time.
+ *
+ * An in-memory hash index maps each live key to the position of its latest record, so
+ * get, put and remove take constant time plus the cost of the codecs. Reopening a file
+ * only has to scan the log once to rebuild the index; values aren't decoded until
+ * they are looked up.
+ *
+ * Superseded records and tombstones are garbage. Once garbage takes up more of the log
+ * than live records do, the live records are copied to a fresh file that replaces the
+ * old one ("compaction"). Call 'close' when done, or 'flush' to force the contents to
+ * disk right away.
+ *
+ * The log is limited to 2 GB, since that's the largest region a single buffer can map.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class MappedLogDictionary<K, V> implements IDictionary<K, V>, AutoCloseable {
+    private final Path path;
+    private final ICodec<K> keyCodec;
+    private final ICodec<V> valueCodec;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    // Maps every live key to the offset of its record
+    private IDictionary<K, Integer> index;
+    // The offset just past the last record
+    private int end;
+    // Bytes of the log taken up by superseded records and tombstones
+    private int garbage;
+    // Automatic compaction waits for at least this much garbage. It goes up after a
+    // failed attempt, and back to MIN_COMPACTION_GARBAGE after a successful one.
+    private int compactionThreshold;
+
+    // The header holds MAGIC, VERSION and 'end', and is padded to HEADER_SIZE bytes.
+    // Each record is a key length, a value length (or TOMBSTONE), the key and the value.
+    private static final int MAGIC = 0x4D4C4F47;
+    private static final int VERSION = 1;
+    private static final int END_OFFSET = 8;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TOMBSTONE = -1;
+
+    private static final int INITIAL_FILE_SIZE = 4096;
+    // Don't bother compacting logs with less garbage than this
+    private static final int MIN_COMPACTION_GARBAGE = 64 * 1024;
+
+    /**
+     * Opens the dictionary stored in the given file, creating an empty one if the file
+     * doesn't exist yet. The codecs must be the same ones used to write the file.
+     *
+     * @throws IllegalArgumentException if the file exists but isn't a dictionary log
+     */
+    public MappedLogDictionary(String filename, ICodec<K> keyCodec, ICodec<V> valueCodec) {
+        this.path = Paths.get(filename);
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        try {
+            this.channel = FileChannel.open(this.path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (this.channel.size() == 0) {
+                this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_FILE_SIZE);
+                this.buffer.putInt(0, MAGIC);
+                this.buffer.putInt(4, VERSION);
+                this.buffer.putInt(END_OFFSET, HEADER_SIZE);
+            } else {
+                this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, this.channel.size());
+            }
+        } catch (IOException ex) {
+            // Having to include a "throws IOException" in our method headers everywhere
+            // is annoying, so we rethrow the exception as a RuntimeException instead.
+            throw new RuntimeException(ex);
+        }
+        if (this.buffer.capacity() < HEADER_SIZE
+                || this.buffer.getInt(0) != MAGIC
+                || this.buffer.getInt(4) != VERSION) {
+            this.close();
+            throw new IllegalArgumentException("Not a dictionary log: " + filename);
+        }
+        this.end = this.buffer.getInt(END_OFFSET);
+        this.compactionThreshold = MIN_COMPACTION_GARBAGE;
+        this.rebuildIndex();
+    }
+
+    @Override
+    public V get(K key) {
+        Integer offset = this.findOffset(key);
+        if (offset == null) {
+            throw new NoSuchKeyException();
+        }
+        return this.readValue(offset);
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Integer offset = this.findOffset(key);
+        return offset == null ? defaultValue : this.readValue(offset);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        this.checkOpen();
+        Integer oldOffset = this.index.getOrDefault(key, null);
+        int offset = this.append(this.keyCodec.encode(key), this.valueCodec.encode(value));
+        if (oldOffset != null) {
+            this.garbage += this.recordSize(oldOffset);
+        }
+        this.index.put(key, offset);
+        this.compactIfNeeded();
+    }
+
+    @Override
+    public V remove(K key) {
+        Integer offset = this.findOffset(key);
+        if (offset == null) {
+            throw new NoSuchKeyException();
+        }
+        V result = this.readValue(offset);
+        int tombstone = this.append(this.keyCodec.encode(key), null);
+        this.index.remove(key);
+        // The tombstone is only needed until compaction drops the old record
+        this.garbage += this.recordSize(offset) + this.recordSize(tombstone);
+        this.compactIfNeeded();
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findOffset(key) != null;
+    }
+
+    @Override
+    public int size() {
+        this.checkOpen();
+        return this.index.size();
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new MappedLogDictionaryIterator<>(this.cursor());
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        this.checkOpen();
+        return new MappedLogDictionaryCursor<>(this, this.index.cursor());
+    }
+
+    /**
+     * Copies every live record into a new file that replaces the current one, dropping
+     * all superseded records and tombstones. This happens automatically once garbage
+     * outweighs the live records.
+     *
+     * If the new file can't replace the old one (Windows, for example, won't replace a
+     * file that is still mapped), this throws and the dictionary carries on using the
+     * old file, exactly as it was. Automatic compaction doesn't throw in that case; it
+     * just waits for twice as much garbage before trying again.
+     */
+    public void compact() {
+        this.checkOpen();
+        Path tempPath = this.path.resolveSibling(this.path.getFileName() + ".compact");
+        IDictionary<K, Integer> newIndex = new ChainedHashDictionary<>();
+        int newEnd = HEADER_SIZE;
+        // Leave room for the live records to double before the file has to grow again
+        long liveSize = this.end - HEADER_SIZE - this.garbage;
+        long newSize = Math.min(Integer.MAX_VALUE, Math.max(INITIAL_FILE_SIZE, HEADER_SIZE + liveSize * 2));
+
+        // The new file is written through its channel rather than mapped, so that no
+        // mapping of it is left around to block the move below
+        try (FileChannel tempChannel = FileChannel.open(tempPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Records are copied byte for byte, without decoding them
+            IDictionaryCursor<K, Integer> cursor = this.index.cursor();
+            while (cursor.next()) {
+                int offset = cursor.value();
+                int size = this.recordSize(offset);
+                ByteBuffer record = this.buffer.duplicate();
+                record.position(offset).limit(offset + size);
+                writeFully(tempChannel, record, newEnd);
+                newIndex.put(cursor.key(), newEnd);
+                newEnd += size;
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(0, MAGIC).putInt(4, VERSION).putInt(END_OFFSET, newEnd);
+            writeFully(tempChannel, header, 0);
+            tempChannel.force(true);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+
+        try {
+            this.buffer.force();
+            this.channel.close();
+            Files.move(tempPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            // The old file is untouched, and its mapping stays valid after the channel is
+            // closed, so reopening the channel restores the dictionary
+            try {
+                Files.deleteIfExists(tempPath);
+                this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } catch (IOException reopenEx) {
+                ex.addSuppressed(reopenEx);
+                this.markClosed();
+            }
+            throw new RuntimeException(ex);
+        }
+
+        // Only now does the new file hold the dictionary, so only now is the state swapped
+        try {
+            this.channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // Mapping past the end of the file extends it
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (IOException ex) {
+            // Everything is safely in the new file, but the old index doesn't match it
+            try {
+                this.channel.close();
+            } catch (IOException closeEx) {
+                ex.addSuppressed(closeEx);
+            }
+            this.markClosed();
+            throw new RuntimeException(ex);
+        }
+        this.index = newIndex;
+        this.end = newEnd;
+        this.garbage = 0;
+        this.compactionThreshold = MIN_COMPACTION_GARBAGE;
+    }
+
+    /**
+     * Forces every change made so far out to the file.
+     */
+    public void flush() {
+        this.checkOpen();
+        this.buffer.force();
+    }
+
+    /**
+     * Flushes and closes the file. The dictionary can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            this.buffer.force();
+            this.channel.close();
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            this.markClosed();
+        }
+    }
+
+    private void markClosed() {
+        this.channel = null;
+        this.buffer = null;
+        this.index = null;
+    }
+
+    // Scans the whole log, replaying every record into a fresh index
+    private void rebuildIndex() {
+        this.index = new ChainedHashDictionary<>();
+        this.garbage = 0;
+        int offset = HEADER_SIZE;
+        while (offset < this.end) {
+            K key = this.keyCodec.decode(this.readBytes(offset + RECORD_HEADER_SIZE, this.buffer.getInt(offset)));
+            int size = this.recordSize(offset);
+            Integer oldOffset = this.index.getOrDefault(key, null);
+            if (oldOffset != null) {
+                this.garbage += this.recordSize(oldOffset);
+            }
+            if (this.buffer.getInt(offset + 4) == TOMBSTONE) {
+                if (oldOffset != null) {
+                    this.index.remove(key);
+                }
+                this.garbage += size;
+            } else {
+                this.index.put(key, offset);
+            }
+            offset += size;
+        }
+    }
+
+    // Appends a record and returns its offset. A null 'valueBytes' appends a tombstone.
+    private int append(byte[] keyBytes, byte[] valueBytes) {
+        int valueLength = valueBytes == null ? 0 : valueBytes.length;
+        long newEnd = (long) this.end + RECORD_HEADER_SIZE + keyBytes.length + valueLength;
+        if (newEnd > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Dictionary log is full");
+        }
+        this.ensureCapacity((int) newEnd);
+
+        int offset = this.end;
+        this.buffer.putInt(offset, keyBytes.length);
+        this.buffer.putInt(offset + 4, valueBytes == null ? TOMBSTONE : valueLength);
+        this.buffer.position(offset + RECORD_HEADER_SIZE);
+        this.buffer.put(keyBytes);
+        if (valueBytes != null) {
+            this.buffer.put(valueBytes);
+        }
+        // Only move 'end' once the record is complete, so a crash mid-write loses
+        // just that record
+        this.end = (int) newEnd;
+        this.buffer.putInt(END_OFFSET, this.end);
+        return offset;
+    }
+
+    // Grows the file (and the mapping) so it is at least 'minSize' bytes long
+    private void ensureCapacity(int minSize) {
+        if (minSize <= this.buffer.capacity()) {
+            return;
+        }
+        long newSize = Math.min(Integer.MAX_VALUE, Math.max((long) minSize, this.buffer.capacity() * 2L));
+        try {
+            // Mapping past the end of the file extends it
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+
+    private void compactIfNeeded() {
+        int liveSize = this.end - HEADER_SIZE - this.garbage;
+        if (this.garbage >= this.compactionThreshold && this.garbage > liveSize) {
+            try {
+                this.compact();
+            } catch (RuntimeException ex) {
+                if (this.channel == null) {
+                    // Compaction couldn't even restore the old file, so the dictionary
+                    // is unusable and the caller has to know
+                    throw ex;
+                }
+                // The caller's put or remove is already in the log, so it still succeeded.
+                // Wait until the garbage doubles before trying again, so a file that
+                // can't be replaced (on Windows, say) isn't copied on every change.
+                this.compactionThreshold = (int) Math.min(Integer.MAX_VALUE, this.garbage * 2L);
+            }
+        }
+    }
+
+    private Integer findOffset(K key) {
+        this.checkOpen();
+        return this.index.getOrDefault(key, null);
+    }
+
+    private V readValue(int offset) {
+        int keyLength = this.buffer.getInt(offset);
+        int valueLength = this.buffer.getInt(offset + 4);
+        return this.valueCodec.decode(this.readBytes(offset + RECORD_HEADER_SIZE + keyLength, valueLength));
+    }
+
+    private byte[] readBytes(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private int recordSize(int offset) {
+        int valueLength = this.buffer.getInt(offset + 4);
+        return RECORD_HEADER_SIZE + this.buffer.getInt(offset) + (valueLength == TOMBSTONE ? 0 : valueLength);
+    }
+
+    private void checkOpen() {
+        if (this.channel == null) {
+            throw new IllegalStateException("Dictionary has been closed");
+        }
+    }
+
+    private static class MappedLogDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        private final MappedLogDictionary<K, V> dictionary;
+        private final IDictionaryCursor<K, Integer> indexCursor;
+
+        public MappedLogDictionaryCursor(MappedLogDictionary<K, V> dictionary, IDictionaryCursor<K, Integer> indexCursor) {
+            this.dictionary = dictionary;
+            this.indexCursor = indexCursor;
+        }
+
+        public boolean next() {
+            return this.indexCursor.next();
+        }
+
+        public K key() {
+            return this.indexCursor.key();
+        }
+
+        public V value() {
+            // Values are only decoded if someone asks for them
+            return this.dictionary.readValue(this.indexCursor.value());
+        }
+    }
+
+    private static class MappedLogDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final IDictionaryCursor<K, V> cursor;
+        private boolean hasNext;
+
+        public MappedLogDictionaryIterator(IDictionaryCursor<K, V> cursor) {
+            this.cursor = cursor;
+            this.hasNext = cursor.next();
+        }
+
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(this.cursor.key(), this.cursor.value());
+            this.hasNext = this.cursor.next();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary stored as a hash array mapped trie (HAMT): a 32-way tree indexed by
+ * successive 5-bit chunks of each key's hash, where every node only allocates room
+ * for the children it actually has.
+ *
+ * Nodes are never changed once created, so 'copy()' runs in constant time and
+ * copies share almost all of their structure. put and remove only copy the nodes
+ * on the path to the key, which is O(log32 n): at most seven levels. 'with' and
+ * 'without' derive a changed copy while leaving this dictionary untouched.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class PersistentHashDictionary<K, V> implements IDictionary<K, V> {
+    private BitmapNode root;
+    private int size;
+
+    // Set by insert() when it adds a new key instead of replacing a value
+    private boolean addedKey;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final BitmapNode EMPTY_ROOT = new BitmapNode(0, new Object[0]);
+
+    public PersistentHashDictionary() {
+        this.root = EMPTY_ROOT;
+        this.size = 0;
+    }
+
+    /**
+     * Returns a new dictionary with the same contents as the given one. If it is
+     * itself a PersistentHashDictionary, this runs in constant time.
+     */
+    public static <K, V> PersistentHashDictionary<K, V> copyOf(IDictionary<K, V> dictionary) {
+        if (dictionary instanceof PersistentHashDictionary) {
+            return ((PersistentHashDictionary<K, V>) dictionary).copy();
+        }
+        PersistentHashDictionary<K, V> result = new PersistentHashDictionary<>();
+        IDictionaryCursor<K, V> cursor = dictionary.cursor();
+        while (cursor.next()) {
+            result.put(cursor.key(), cursor.value());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new dictionary with the same contents as this one, in constant time.
+     * Later changes to either dictionary are not visible in the other.
+     */
+    public PersistentHashDictionary<K, V> copy() {
+        PersistentHashDictionary<K, V> result = new PersistentHashDictionary<>();
+        result.root = this.root;
+        result.size = this.size;
+        return result;
+    }
+
+    /**
+     * Returns a copy of this dictionary that also maps 'key' to 'value', leaving this
+     * dictionary unchanged.
+     */
+    public PersistentHashDictionary<K, V> with(K key, V value) {
+        PersistentHashDictionary<K, V> result = this.copy();
+        result.put(key, value);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this dictionary without the given key, leaving this dictionary
+     * unchanged.
+     *
+     * @throws NoSuchKeyException if the dictionary does not contain the given key.
+     */
+    public PersistentHashDictionary<K, V> without(K key) {
+        PersistentHashDictionary<K, V> result = this.copy();
+        result.remove(key);
+        return result;
+    }
+
+    @Override
+    public V get(K key) {
+        Leaf<K, V> leaf = this.findLeaf(key);
+        if (leaf == null) {
+            throw new NoSuchKeyException();
+        }
+        return leaf.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Leaf<K, V> leaf = this.findLeaf(key);
+        return leaf == null ? defaultValue : leaf.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        this.addedKey = false;
+        this.root = (BitmapNode) this.insert(this.root, 0, new Leaf<>(hash(key), key, value));
+        if (this.addedKey) {
+            this.size++;
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        Leaf<K, V> leaf = this.findLeaf(key);
+        if (leaf == null) {
+            throw new NoSuchKeyException();
+        }
+        Object newRoot = this.delete(this.root, 0, leaf.hash, key);
+        if (newRoot == null) {
+            this.root = EMPTY_ROOT;
+        } else if (newRoot instanceof BitmapNode) {
+            this.root = (BitmapNode) newRoot;
+        } else {
+            // The root always stays a BitmapNode, even if only one entry is left
+            this.root = wrap(newRoot, hashOf(newRoot), 0);
+        }
+        this.size--;
+        return leaf.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findLeaf(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new PersistentHashDictionaryIterator<>(this.root);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new PersistentHashDictionaryCursor<>(this.root);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Leaf<K, V> findLeaf(K key) {
+        int hash = hash(key);
+        Object curr = this.root;
+        int shift = 0;
+        while (true) {
+            if (curr instanceof BitmapNode) {
+                BitmapNode node = (BitmapNode) curr;
+                int bit = bitFor(hash, shift);
+                if ((node.bitmap & bit) == 0) {
+                    return null;
+                }
+                curr = node.slots[node.indexFor(bit)];
+                shift += BITS;
+            } else if (curr instanceof Leaf) {
+                Leaf<K, V> leaf = (Leaf<K, V>) curr;
+                return leaf.hash == hash && keysEqual(key, leaf.key) ? leaf : null;
+            } else {
+                for (Object slot : ((CollisionNode) curr).leaves) {
+                    Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                    if (keysEqual(key, leaf.key)) {
+                        return leaf;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    // Returns a copy of 'curr' (a node or a single leaf sitting 'shift' bits deep)
+    // that also contains 'leaf', replacing any existing leaf with the same key.
+    @SuppressWarnings("unchecked")
+    private Object insert(Object curr, int shift, Leaf<K, V> leaf) {
+        if (curr instanceof BitmapNode) {
+            BitmapNode node = (BitmapNode) curr;
+            int bit = bitFor(leaf.hash, shift);
+            int index = node.indexFor(bit);
+            if ((node.bitmap & bit) == 0) {
+                this.addedKey = true;
+                Object[] slots = new Object[node.slots.length + 1];
+                System.arraycopy(node.slots, 0, slots, 0, index);
+                slots[index] = leaf;
+                System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+                return new BitmapNode(node.bitmap | bit, slots);
+            }
+            Object[] slots = node.slots.clone();
+            slots[index] = this.insert(node.slots[index], shift + BITS, leaf);
+            return new BitmapNode(node.bitmap, slots);
+        } else if (curr instanceof Leaf) {
+            Leaf<K, V> existing = (Leaf<K, V>) curr;
+            if (existing.hash == leaf.hash && keysEqual(existing.key, leaf.key)) {
+                return leaf;
+            }
+            this.addedKey = true;
+            return merge(existing, existing.hash, leaf, shift);
+        } else {
+            CollisionNode collision = (CollisionNode) curr;
+            if (collision.hash != leaf.hash) {
+                this.addedKey = true;
+                return merge(collision, collision.hash, leaf, shift);
+            }
+            Object[] leaves = collision.leaves;
+            for (int i = 0; i < leaves.length; i++) {
+                if (keysEqual(((Leaf<K, V>) leaves[i]).key, leaf.key)) {
+                    Object[] newLeaves = leaves.clone();
+                    newLeaves[i] = leaf;
+                    return new CollisionNode(collision.hash, newLeaves);
+                }
+            }
+            this.addedKey = true;
+            Object[] newLeaves = new Object[leaves.length + 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+            newLeaves[leaves.length] = leaf;
+            return new CollisionNode(collision.hash, newLeaves);
+        }
+    }
+
+    // Returns a copy of 'curr' without the given key, which must be present. The result
+    // is null if nothing is left, and a lone leaf if only one entry is left, so that
+    // the parent can store the leaf directly instead of a node with a single child.
+    @SuppressWarnings("unchecked")
+    private Object delete(Object curr, int shift, int hash, K key) {
+        if (curr instanceof BitmapNode) {
+            BitmapNode node = (BitmapNode) curr;
+            int bit = bitFor(hash, shift);
+            int index = node.indexFor(bit);
+            Object child = this.delete(node.slots[index], shift + BITS, hash, key);
+            if (child != null) {
+                if (node.slots.length == 1 && !(child instanceof BitmapNode)) {
+                    return child;
+                }
+                Object[] slots = node.slots.clone();
+                slots[index] = child;
+                return new BitmapNode(node.bitmap, slots);
+            }
+            if (node.slots.length == 1) {
+                return null;
+            }
+            if (node.slots.length == 2 && !(node.slots[1 - index] instanceof BitmapNode)) {
+                return node.slots[1 - index];
+            }
+            Object[] slots = new Object[node.slots.length - 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+            return new BitmapNode(node.bitmap & ~bit, slots);
+        } else if (curr instanceof Leaf) {
+            return null;
+        } else {
+            CollisionNode collision = (CollisionNode) curr;
+            Object[] leaves = collision.leaves;
+            int index = 0;
+            while (!keysEqual(((Leaf<K, V>) leaves[index]).key, key)) {
+                index++;
+            }
+            if (leaves.length == 2) {
+                return leaves[1 - index];
+            }
+            Object[] newLeaves = new Object[leaves.length - 1];
+            System.arraycopy(leaves, 0, newLeaves, 0, index);
+            System.arraycopy(leaves, index + 1, newLeaves, index, newLeaves.length - index);
+            return new CollisionNode(collision.hash, newLeaves);
+        }
+    }
+
+    // Returns a node sitting 'shift' bits deep that holds both 'existing' (a leaf or
+    // collision node whose keys all have 'existingHash') and the new leaf.
+    private static Object merge(Object existing, int existingHash, Leaf<?, ?> leaf, int shift) {
+        if (existingHash == leaf.hash) {
+            // Only possible when 'existing' is a leaf: collision nodes with the same
+            // hash are handled by insert()
+            return new CollisionNode(leaf.hash, new Object[] {existing, leaf});
+        }
+        int existingBit = bitFor(existingHash, shift);
+        int leafBit = bitFor(leaf.hash, shift);
+        if (existingBit == leafBit) {
+            return new BitmapNode(existingBit, new Object[] {merge(existing, existingHash, leaf, shift + BITS)});
+        } else if (Integer.compareUnsigned(existingBit, leafBit) < 0) {
+            return new BitmapNode(existingBit | leafBit, new Object[] {existing, leaf});
+        } else {
+            return new BitmapNode(existingBit | leafBit, new Object[] {leaf, existing});
+        }
+    }
+
+    // Returns a node sitting 'shift' bits deep whose only child is 'entry'
+    private static BitmapNode wrap(Object entry, int hash, int shift) {
+        return new BitmapNode(bitFor(hash, shift), new Object[] {entry});
+    }
+
+    private static int hashOf(Object entry) {
+        return entry instanceof Leaf ? ((Leaf<?, ?>) entry).hash : ((CollisionNode) entry).hash;
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    // Mixes the high bits of the hash code into the low bits, since the low bits
+    // pick the slots nearest the root.
+    private static int hash(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || (a != null && a.equals(b));
+    }
+
+    private static class Leaf<K, V> {
+        public final int hash;
+        public final K key;
+        public final V value;
+
+        public Leaf(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    // Slot i holds the child for the i-th set bit of 'bitmap': either a Leaf,
+    // a CollisionNode, or another BitmapNode one level further down.
+    private static class BitmapNode {
+        public final int bitmap;
+        public final Object[] slots;
+
+        public BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        public int indexFor(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+    }
+
+    // Holds two or more leaves whose keys have exactly the same hash
+    private static class CollisionNode {
+        public final int hash;
+        public final Object[] leaves;
+
+        public CollisionNode(int hash, Object[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+    }
+
+    private static class PersistentHashDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        // The slot arrays we are partway through, from the root downwards, and the
+        // next position in each. A 32-bit hash is used up after seven levels, plus
+        // one more for a collision node.
+        private final Object[][] stack;
+        private final int[] positions;
+        private int depth;
+        private Leaf<K, V> curr;
+
+        public PersistentHashDictionaryCursor(BitmapNode root) {
+            this.stack = new Object[9][];
+            this.positions = new int[9];
+            this.stack[0] = root.slots;
+            this.positions[0] = 0;
+            this.depth = 0;
+            this.curr = null;
+        }
+
+        // Moves to the next leaf in depth-first order
+        @SuppressWarnings("unchecked")
+        public boolean next() {
+            this.curr = null;
+            while (this.depth >= 0) {
+                Object[] slots = this.stack[this.depth];
+                if (this.positions[this.depth] == slots.length) {
+                    this.depth--;
+                    continue;
+                }
+                Object slot = slots[this.positions[this.depth]];
+                this.positions[this.depth]++;
+                if (slot instanceof Leaf) {
+                    this.curr = (Leaf<K, V>) slot;
+                    return true;
+                }
+                this.depth++;
+                this.stack[this.depth] = slot instanceof BitmapNode
+                        ? ((BitmapNode) slot).slots
+                        : ((CollisionNode) slot).leaves;
+                this.positions[this.depth] = 0;
+            }
+            return false;
+        }
+
+        public K key() {
+            return this.current().key;
+        }
+
+        public V value() {
+            return this.current().value;
+        }
+
+        private Leaf<K, V> current() {
+            if (this.curr == null) {
+                throw new IllegalStateException();
+            }
+            return this.curr;
+        }
+    }
+
+    private static class PersistentHashDictionaryIterator<K, V> implements Iterator<KVPair<K, V>> {
+        private final PersistentHashDictionaryCursor<K, V> cursor;
+        private boolean hasNext;
+
+        public PersistentHashDictionaryIterator(BitmapNode root) {
+            this.cursor = new PersistentHashDictionaryCursor<>(root);
+            this.hasNext = this.cursor.next();
+        }
+
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<K, V> result = new KVPair<>(this.cursor.key(), this.cursor.value());
+            this.hasNext = this.cursor.next();
+            return result;
+        }
+    }
+}
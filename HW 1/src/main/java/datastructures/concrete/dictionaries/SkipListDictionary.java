@@ -0,0 +1,334 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionaryCursor;
+import datastructures.interfaces.ISortedDictionary;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A sorted dictionary stored as a skip list: a sorted linked list where each node
+ * also links ahead on a random number of "express" levels, so searches skip over
+ * most of the list and take O(log n) expected time.
+ *
+ * This dictionary is thread-safe. Reads never lock: every link is read through
+ * an AtomicReferenceArray, and writers only ever change one link at a time, so a
+ * reader always sees a properly linked list. Writers take a single lock.
+ *
+ * Iterators are weakly consistent: they never throw because of concurrent
+ * modification, but may or may not reflect changes made after they were created.
+ *
+ * See ISortedDictionary for more details on what this class should do.
+ */
+public class SkipListDictionary<K extends Comparable<K>, V> implements ISortedDictionary<K, V> {
+    // The head holds no key and links to the first node on every level
+    private final Node<K, V> head;
+    // The height of the tallest node ever added, so searches can skip the empty levels
+    private volatile int levels;
+    private volatile int size;
+
+    private final ReentrantLock writeLock;
+    // State for the random number generator used to pick node heights. Only
+    // used while holding 'writeLock'.
+    private int seed;
+
+    private static final int MAX_LEVEL = 32;
+
+    public SkipListDictionary() {
+        this.head = new Node<>(null, null, MAX_LEVEL);
+        this.levels = 1;
+        this.size = 0;
+        this.writeLock = new ReentrantLock();
+        this.seed = 0x2545F491;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = this.findNode(key);
+        if (node == null) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(K key, V defaultValue) {
+        Node<K, V> node = this.findNode(key);
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Keys must not be null");
+        }
+        this.writeLock.lock();
+        try {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Node<K, V>[] preds = (Node<K, V>[]) new Node[MAX_LEVEL];
+            Node<K, V> next = this.findPredecessors(key, preds);
+            if (next != null && next.key.compareTo(key) == 0) {
+                next.value = value;
+                return;
+            }
+            Node<K, V> node = new Node<>(key, value, this.randomHeight());
+            // Fill in the new node's own links before publishing it, bottom level first,
+            // so readers that find it can always continue from it
+            for (int level = 0; level < node.height(); level++) {
+                node.next.set(level, preds[level].next.get(level));
+            }
+            for (int level = 0; level < node.height(); level++) {
+                preds[level].next.set(level, node);
+            }
+            if (node.height() > this.levels) {
+                this.levels = node.height();
+            }
+            this.size++;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            throw new NoSuchKeyException();
+        }
+        this.writeLock.lock();
+        try {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Node<K, V>[] preds = (Node<K, V>[]) new Node[MAX_LEVEL];
+            Node<K, V> node = this.findPredecessors(key, preds);
+            if (node == null || node.key.compareTo(key) != 0) {
+                throw new NoSuchKeyException();
+            }
+            // Unlink from the top down. The node keeps its own links, so a reader
+            // standing on it can still carry on past it.
+            for (int level = node.height() - 1; level >= 0; level--) {
+                preds[level].next.set(level, node.next.get(level));
+            }
+            this.size--;
+            return node.value;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return this.findNode(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public K firstKey() {
+        Node<K, V> first = this.head.next.get(0);
+        if (first == null) {
+            throw new EmptyContainerException();
+        }
+        return first.key;
+    }
+
+    @Override
+    public K lastKey() {
+        Node<K, V> curr = this.head;
+        for (int level = this.levels - 1; level >= 0; level--) {
+            Node<K, V> next = curr.next.get(level);
+            while (next != null) {
+                curr = next;
+                next = curr.next.get(level);
+            }
+        }
+        if (curr == this.head) {
+            throw new EmptyContainerException();
+        }
+        return curr.key;
+    }
+
+    @Override
+    public K floorKey(K key) {
+        if (key == null) {
+            return null;
+        }
+        // Find the last node whose key is at most 'key'
+        Node<K, V> curr = this.head;
+        for (int level = this.levels - 1; level >= 0; level--) {
+            Node<K, V> next = curr.next.get(level);
+            while (next != null && next.key.compareTo(key) <= 0) {
+                curr = next;
+                next = curr.next.get(level);
+            }
+        }
+        return curr == this.head ? null : curr.key;
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = this.findCeiling(key);
+        return node == null ? null : node.key;
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> range(K fromKey, K toKey) {
+        if (fromKey == null || toKey == null) {
+            throw new IllegalArgumentException("Range bounds must not be null");
+        }
+        if (fromKey.compareTo(toKey) > 0) {
+            throw new IllegalArgumentException("Range starts after it ends");
+        }
+        return new SkipListDictionaryIterator<>(this.findCeiling(fromKey), toKey);
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return new SkipListDictionaryIterator<>(this.head.next.get(0), null);
+    }
+
+    @Override
+    public IDictionaryCursor<K, V> cursor() {
+        return new SkipListDictionaryCursor<>(this.head);
+    }
+
+    private Node<K, V> findNode(K key) {
+        if (key == null) {
+            return null;
+        }
+        Node<K, V> node = this.findCeiling(key);
+        return node != null && node.key.compareTo(key) == 0 ? node : null;
+    }
+
+    // Returns the first node whose key is at least 'key', or null if there is none
+    private Node<K, V> findCeiling(K key) {
+        Node<K, V> curr = this.head;
+        for (int level = this.levels - 1; level >= 0; level--) {
+            Node<K, V> next = curr.next.get(level);
+            while (next != null && next.key.compareTo(key) < 0) {
+                curr = next;
+                next = curr.next.get(level);
+            }
+        }
+        return curr.next.get(0);
+    }
+
+    // Fills 'preds' with the last node before 'key' on every level, and returns
+    // the first node whose key is at least 'key' (or null if there is none).
+    private Node<K, V> findPredecessors(K key, Node<K, V>[] preds) {
+        for (int level = this.levels; level < MAX_LEVEL; level++) {
+            preds[level] = this.head;
+        }
+        Node<K, V> curr = this.head;
+        for (int level = this.levels - 1; level >= 0; level--) {
+            Node<K, V> next = curr.next.get(level);
+            while (next != null && next.key.compareTo(key) < 0) {
+                curr = next;
+                next = curr.next.get(level);
+            }
+            preds[level] = curr;
+        }
+        return curr.next.get(0);
+    }
+
+    // Returns a height between 1 and MAX_LEVEL, where each extra level is a
+    // quarter as likely as the one below it
+    private int randomHeight() {
+        // xorshift32
+        int x = this.seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        this.seed = x;
+        int height = 1 + Integer.numberOfTrailingZeros(x | (1 << 30)) / 2;
+        return Math.min(height, MAX_LEVEL);
+    }
+
+    private static class Node<K, V> {
+        public final K key;
+        public volatile V value;
+        public final AtomicReferenceArray<Node<K, V>> next;
+
+        public Node(K key, V value, int height) {
+            this.key = key;
+            this.value = value;
+            this.next = new AtomicReferenceArray<>(height);
+        }
+
+        public int height() {
+            return this.next.length();
+        }
+
+        @Override
+        public String toString() {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    private static class SkipListDictionaryCursor<K, V> implements IDictionaryCursor<K, V> {
+        // The current node, or the head before the first call to next()
+        private Node<K, V> curr;
+        private boolean started;
+
+        public SkipListDictionaryCursor(Node<K, V> head) {
+            this.curr = head;
+            this.started = false;
+        }
+
+        public boolean next() {
+            if (this.curr != null) {
+                this.curr = this.curr.next.get(0);
+            }
+            this.started = true;
+            return this.curr != null;
+        }
+
+        public K key() {
+            return this.current().key;
+        }
+
+        public V value() {
+            return this.current().value;
+        }
+
+        private Node<K, V> current() {
+            if (!this.started || this.curr == null) {
+                throw new IllegalStateException();
+            }
+            return this.curr;
+        }
+    }
+
+    private static class SkipListDictionaryIterator<K extends Comparable<K>, V> implements Iterator<KVPair<K, V>> {
+        private Node<K, V> next;
+        // Iteration stops before the first key at least this large, or never if null
+        private final K endKey;
+
+        public SkipListDictionaryIterator(Node<K, V> first, K endKey) {
+            this.next = first;
+            this.endKey = endKey;
+        }
+
+        public boolean hasNext() {
+            return this.next != null && (this.endKey == null || this.next.key.compareTo(this.endKey) < 0);
+        }
+
+        public KVPair<K, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> result = this.next;
+            this.next = result.next.get(0);
+            return new KVPair<>(result.key, result.value);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+
+import java.util.Iterator;
+
+/**
+ * Wraps another dictionary so that every operation holds a single lock on this wrapper.
+ *
+ * This is the simplest way to share a dictionary between threads, but only one thread
+ * can use it at a time. Callers iterating over it must hold the lock themselves:
+ *
+ *     synchronized (dict) {
+ *         for (KVPair<K, V> pair : dict) { ... }
+ *     }
+ */
+public class SynchronizedDictionary<K, V> implements IDictionary<K, V> {
+    private final IDictionary<K, V> inner;
+
+    public SynchronizedDictionary(IDictionary<K, V> inner) {
+        this.inner = inner;
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        return this.inner.get(key);
+    }
+
+    @Override
+    public synchronized V getOrDefault(K key, V defaultValue) {
+        return this.inner.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        this.inner.put(key, value);
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        return this.inner.remove(key);
+    }
+
+    @Override
+    public synchronized boolean containsKey(K key) {
+        return this.inner.containsKey(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.inner.size();
+    }
+
+    @Override
+    public Iterator<KVPair<K, V>> iterator() {
+        return this.inner.iterator();
+    }
+}
@@ -0,0 +1,367 @@
+package datastructures.concrete.dictionaries;
+
+import datastructures.concrete.KVPair;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.exceptions.NoSuchKeyException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A dictionary with String keys, stored as a ternary search tree: each node holds
+ * one character and links to nodes for smaller characters, larger characters and
+ * the next character of the key.
+ *
+ * Looking up a key only compares characters, never whole strings, and takes
+ * O(key length + log n) time. Every key that starts with a given prefix lives
+ * under a single node, so 'prefixCursor' finds them in O(prefix length + log n).
+ * Iteration visits the keys in ascending order.
+ *
+ * The tree also works as a symbol table: 'intern' returns one shared String
+ * instance for every key that is equal, so code that interns its keys up front
+ * can later compare them with '=='.
+ *
+ * Keys must not be null. Removing a key keeps its nodes (and its interned
+ * String), so the tree never shrinks.
+ *
+ * See IDictionary for more details on what this class should do.
+ */
+public class TernarySearchTreeDictionary<V> implements IDictionary<String, V> {
+    private Node<V> root;
+    private int size;
+
+    // The empty string has no characters to store in the tree
+    private boolean hasEmptyKey;
+    private V emptyKeyValue;
+
+    public TernarySearchTreeDictionary() {
+        this.root = null;
+        this.size = 0;
+        this.hasEmptyKey = false;
+        this.emptyKeyValue = null;
+    }
+
+    /**
+     * Returns the canonical String instance equal to 'key'. The first String passed
+     * in for a given key (or used to 'put' it) becomes the canonical instance.
+     *
+     * Interning does not add an entry to the dictionary.
+     */
+    public String intern(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Keys must not be null");
+        }
+        if (key.isEmpty()) {
+            return "";
+        }
+        return this.findOrCreateNode(key).key;
+    }
+
+    @Override
+    public V get(String key) {
+        if (key != null && key.isEmpty()) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            return this.emptyKeyValue;
+        }
+        Node<V> node = this.findNode(key);
+        if (node == null || !node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+        return node.value;
+    }
+
+    @Override
+    public V getOrDefault(String key, V defaultValue) {
+        if (key != null && key.isEmpty()) {
+            return this.hasEmptyKey ? this.emptyKeyValue : defaultValue;
+        }
+        Node<V> node = this.findNode(key);
+        return node == null || !node.hasValue ? defaultValue : node.value;
+    }
+
+    @Override
+    public void put(String key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Keys must not be null");
+        }
+        if (key.isEmpty()) {
+            if (!this.hasEmptyKey) {
+                this.hasEmptyKey = true;
+                this.size++;
+            }
+            this.emptyKeyValue = value;
+            return;
+        }
+        Node<V> node = this.findOrCreateNode(key);
+        if (!node.hasValue) {
+            node.hasValue = true;
+            this.size++;
+        }
+        node.value = value;
+    }
+
+    @Override
+    public V remove(String key) {
+        if (key != null && key.isEmpty()) {
+            if (!this.hasEmptyKey) {
+                throw new NoSuchKeyException();
+            }
+            V result = this.emptyKeyValue;
+            this.hasEmptyKey = false;
+            this.emptyKeyValue = null;
+            this.size--;
+            return result;
+        }
+        Node<V> node = this.findNode(key);
+        if (node == null || !node.hasValue) {
+            throw new NoSuchKeyException();
+        }
+        V result = node.value;
+        node.hasValue = false;
+        node.value = null;
+        this.size--;
+        return result;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        if (key != null && key.isEmpty()) {
+            return this.hasEmptyKey;
+        }
+        Node<V> node = this.findNode(key);
+        return node != null && node.hasValue;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Iterator<KVPair<String, V>> iterator() {
+        return new TernarySearchTreeDictionaryIterator<>(this.cursor());
+    }
+
+    /**
+     * Returns a cursor over every entry, in ascending order of keys.
+     */
+    @Override
+    public IDictionaryCursor<String, V> cursor() {
+        return this.prefixCursor("");
+    }
+
+    /**
+     * Returns a cursor over every entry whose key starts with 'prefix', in ascending
+     * order of keys.
+     */
+    public IDictionaryCursor<String, V> prefixCursor(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix must not be null");
+        }
+        TernarySearchTreeDictionaryCursor<V> cursor = new TernarySearchTreeDictionaryCursor<>();
+        if (prefix.isEmpty()) {
+            cursor.push(this.root, false);
+            if (this.hasEmptyKey) {
+                cursor.pushEmptyKey(this.emptyKeyValue);
+            }
+        } else {
+            Node<V> node = this.findNode(prefix);
+            if (node != null) {
+                // The prefix itself comes first, then every longer key below it
+                cursor.push(node.mid, false);
+                cursor.push(node, true);
+            }
+        }
+        return cursor;
+    }
+
+    // Returns the node for the last character of 'key', or null if there is none
+    private Node<V> findNode(String key) {
+        if (key == null) {
+            return null;
+        }
+        Node<V> curr = this.root;
+        int index = 0;
+        while (curr != null) {
+            char c = key.charAt(index);
+            if (c < curr.c) {
+                curr = curr.left;
+            } else if (c > curr.c) {
+                curr = curr.right;
+            } else if (index == key.length() - 1) {
+                return curr;
+            } else {
+                curr = curr.mid;
+                index++;
+            }
+        }
+        return null;
+    }
+
+    // Same as findNode, but creates any missing nodes and makes 'key' the
+    // canonical String if the key has not been seen before.
+    //
+    // Precondition: 'key' is not empty
+    private Node<V> findOrCreateNode(String key) {
+        if (this.root == null) {
+            this.root = new Node<>(key.charAt(0));
+        }
+        Node<V> curr = this.root;
+        int index = 0;
+        while (true) {
+            char c = key.charAt(index);
+            if (c < curr.c) {
+                if (curr.left == null) {
+                    curr.left = new Node<>(c);
+                }
+                curr = curr.left;
+            } else if (c > curr.c) {
+                if (curr.right == null) {
+                    curr.right = new Node<>(c);
+                }
+                curr = curr.right;
+            } else if (index == key.length() - 1) {
+                if (curr.key == null) {
+                    curr.key = key;
+                }
+                return curr;
+            } else {
+                index++;
+                if (curr.mid == null) {
+                    curr.mid = new Node<>(key.charAt(index));
+                }
+                curr = curr.mid;
+            }
+        }
+    }
+
+    private static class Node<V> {
+        public final char c;
+        public Node<V> left;
+        public Node<V> mid;
+        public Node<V> right;
+        // The canonical String for the key ending here, or null if no key ends here
+        public String key;
+        public boolean hasValue;
+        public V value;
+
+        public Node(char c) {
+            this.c = c;
+        }
+    }
+
+    // Walks the tree in order: the smaller subtree, the node itself, the keys that
+    // continue past it, and then the larger subtree.
+    private static class TernarySearchTreeDictionaryCursor<V> implements IDictionaryCursor<String, V> {
+        // Pending work, top of the stack last. 'emit[i]' says whether to report
+        // 'nodes[i]' itself, rather than visit its whole subtree.
+        private Node<V>[] nodes;
+        private boolean[] emit;
+        private int depth;
+
+        private boolean hasPendingEmptyKey;
+        private V emptyKeyValue;
+
+        private String currKey;
+        private V currValue;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public TernarySearchTreeDictionaryCursor() {
+            this.nodes = (Node<V>[]) new Node[16];
+            this.emit = new boolean[16];
+            this.depth = 0;
+            this.hasPendingEmptyKey = false;
+        }
+
+        public void push(Node<V> node, boolean emitOnly) {
+            if (node == null) {
+                return;
+            }
+            if (this.depth == this.nodes.length) {
+                this.nodes = Arrays.copyOf(this.nodes, this.depth * 2);
+                this.emit = Arrays.copyOf(this.emit, this.depth * 2);
+            }
+            this.nodes[this.depth] = node;
+            this.emit[this.depth] = emitOnly;
+            this.depth++;
+        }
+
+        public void pushEmptyKey(V value) {
+            this.hasPendingEmptyKey = true;
+            this.emptyKeyValue = value;
+        }
+
+        public boolean next() {
+            if (this.hasPendingEmptyKey) {
+                // The empty string comes before every other key
+                this.hasPendingEmptyKey = false;
+                this.currKey = "";
+                this.currValue = this.emptyKeyValue;
+                return true;
+            }
+            while (this.depth > 0) {
+                this.depth--;
+                Node<V> node = this.nodes[this.depth];
+                this.nodes[this.depth] = null;
+                if (this.emit[this.depth]) {
+                    if (node.hasValue) {
+                        this.currKey = node.key;
+                        this.currValue = node.value;
+                        return true;
+                    }
+                } else {
+                    this.push(node.right, false);
+                    this.push(node.mid, false);
+                    this.push(node, true);
+                    this.push(node.left, false);
+                }
+            }
+            this.currKey = null;
+            this.currValue = null;
+            return false;
+        }
+
+        public String key() {
+            this.checkCurrent();
+            return this.currKey;
+        }
+
+        public V value() {
+            this.checkCurrent();
+            return this.currValue;
+        }
+
+        private void checkCurrent() {
+            if (this.currKey == null) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private static class TernarySearchTreeDictionaryIterator<V> implements Iterator<KVPair<String, V>> {
+        private final IDictionaryCursor<String, V> cursor;
+        private boolean hasNext;
+
+        public TernarySearchTreeDictionaryIterator(IDictionaryCursor<String, V> cursor) {
+            this.cursor = cursor;
+            this.hasNext = cursor.next();
+        }
+
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        public KVPair<String, V> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            KVPair<String, V> result = new KVPair<>(this.cursor.key(), this.cursor.value());
+            this.hasNext = this.cursor.next();
+            return result;
+        }
+    }
+}
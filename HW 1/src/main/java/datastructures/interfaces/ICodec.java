@@ -0,0 +1,21 @@
+package datastructures.interfaces;
+
+/**
+ * Converts values of some type to and from bytes, so they can be written to a file or
+ * sent somewhere else.
+ *
+ * For every value 'x' the codec accepts, decode(encode(x)) must equal 'x'.
+ */
+public interface ICodec<T> {
+    /**
+     * Returns the bytes representing the given value.
+     *
+     * @throws IllegalArgumentException if this codec cannot represent the value
+     */
+    public byte[] encode(T value);
+
+    /**
+     * Returns the value represented by the given bytes, which were produced by 'encode'.
+     */
+    public T decode(byte[] bytes);
+}
@@ -0,0 +1,54 @@
+package datastructures.interfaces;
+
+import misc.exceptions.EmptyContainerException;
+
+/**
+ * Represents a list that can also add, remove and look at items at either end in
+ * constant time, so it can be used as a stack, a queue or a work-list.
+ *
+ * The IList methods 'add' and 'remove' already work on the *end* of the list; this
+ * interface adds their counterparts for the *front*.
+ */
+public interface IDeque<T> extends IList<T> {
+    /**
+     * Adds the given item to the *front* of this IDeque.
+     */
+    public void addFirst(T item);
+
+    /**
+     * Removes and returns the item from the *front* of this IDeque.
+     *
+     * @throws EmptyContainerException if the container is empty and there is no element to remove.
+     */
+    public T removeFirst();
+
+    /**
+     * Returns the item at the *front* of this IDeque without removing it.
+     *
+     * @throws EmptyContainerException if the container is empty.
+     */
+    public T peekFirst();
+
+    /**
+     * Returns the item at the *end* of this IDeque without removing it.
+     *
+     * @throws EmptyContainerException if the container is empty.
+     */
+    public T peekLast();
+
+    /**
+     * Adds the given item to the *end* of this IDeque. This is the same as 'add'.
+     */
+    public default void addLast(T item) {
+        this.add(item);
+    }
+
+    /**
+     * Removes and returns the item from the *end* of this IDeque. This is the same as 'remove'.
+     *
+     * @throws EmptyContainerException if the container is empty and there is no element to remove.
+     */
+    public default T removeLast() {
+        return this.remove();
+    }
+}
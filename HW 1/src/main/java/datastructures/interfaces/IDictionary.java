@@ -1,11 +1,19 @@
 package datastructures.interfaces;
 
+import datastructures.concrete.IteratorCursor;
+import datastructures.concrete.KVPair;
 import misc.exceptions.NoSuchKeyException;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Represents a data structure that contains a bunch of key-value mappings. Each key must be unique.
  */
-public interface IDictionary<K, V> {
+public interface IDictionary<K, V> extends Iterable<KVPair<K, V>> {
     /**
      * Returns the value corresponding to the given key.
      *
@@ -59,4 +67,50 @@ public interface IDictionary<K, V> {
     public default boolean isEmpty() {
         return this.size() == 0;
     }
+
+    /**
+     * Returns an iterator over every key-value pair in this dictionary, in no particular order.
+     *
+     * Modifying the dictionary while iterating over it leaves the iterator in an undefined state.
+     */
+    public Iterator<KVPair<K, V>> iterator();
+
+    /**
+     * Returns a cursor over every key-value pair in this dictionary, in the same order
+     * as 'iterator()'. Unlike the iterator, the cursor does not allocate an object per
+     * entry.
+     *
+     * Note: The interface provides a default implementation that walks the iterator,
+     *       but implementations should override it with one that reads their entries
+     *       directly.
+     */
+    public default IDictionaryCursor<K, V> cursor() {
+        return new IteratorCursor<>(this.iterator());
+    }
+
+    /**
+     * Returns a spliterator over every key-value pair in this dictionary.
+     *
+     * Note: The interface provides a default implementation that splits by batching up
+     *       the iterator, but implementations may override it with one that splits better.
+     */
+    @Override
+    public default Spliterator<KVPair<K, V>> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a sequential stream over every key-value pair in this dictionary.
+     */
+    public default Stream<KVPair<K, V>> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over every key-value pair in this dictionary.
+     * The dictionary must not be modified while the stream is in use.
+     */
+    public default Stream<KVPair<K, V>> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
 }
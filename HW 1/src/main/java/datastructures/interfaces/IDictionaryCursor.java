@@ -0,0 +1,37 @@
+package datastructures.interfaces;
+
+/**
+ * Steps through the entries of an IDictionary one at a time, without creating an
+ * object per entry: the cursor itself always refers to the current entry.
+ *
+ * A new cursor starts out before the first entry, so the usual loop looks like:
+ *
+ *     IDictionaryCursor<K, V> cursor = dict.cursor();
+ *     while (cursor.next()) {
+ *         use(cursor.key(), cursor.value());
+ *     }
+ *
+ * Modifying the dictionary while using a cursor leaves the cursor in an undefined
+ * state, unless the dictionary documents otherwise.
+ */
+public interface IDictionaryCursor<K, V> {
+    /**
+     * Moves to the next entry. Returns 'true' if there was one, and 'false' if
+     * every entry has already been visited.
+     */
+    public boolean next();
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @throws IllegalStateException if 'next()' has not yet returned 'true', or has since returned 'false'.
+     */
+    public K key();
+
+    /**
+     * Returns the value of the current entry.
+     *
+     * @throws IllegalStateException if 'next()' has not yet returned 'true', or has since returned 'false'.
+     */
+    public V value();
+}
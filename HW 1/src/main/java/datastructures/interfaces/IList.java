@@ -1,8 +1,14 @@
 package datastructures.interfaces;
 
+import datastructures.concrete.SubListView;
 import misc.exceptions.EmptyContainerException;
 
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a data structure that contains an ordered and indexable sequence of elements.
@@ -80,4 +86,83 @@ public interface IList<T> extends Iterable<T> {
      * Returns an iterator over the contents of this list.
      */
     public Iterator<T> iterator();
+
+    /**
+     * Returns a bidirectional iterator over the contents of this list, starting at the front.
+     *
+     * The iterator supports 'remove', 'set' and 'add' at its current position, so a
+     * list can be filtered or spliced in a single pass. Modifying the list other than
+     * through the iterator while it is in use leaves the iterator in an undefined state.
+     */
+    public ListIterator<T> listIterator();
+
+    /**
+     * Adds every item in the given collection to the *end* of this IList, in iteration order.
+     *
+     * Note: The interface provides a default implementation, but implementations may
+     *       override it with a more efficient version.
+     */
+    public default void addAll(Iterable<? extends T> items) {
+        for (T item : items) {
+            this.add(item);
+        }
+    }
+
+    /**
+     * Deletes every item whose index is in the range [fromIndex, toIndex), shifting any
+     * later items down.
+     *
+     * Note: The interface provides a default implementation, but implementations may
+     *       override it with a more efficient version.
+     *
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > this.size(), or fromIndex > toIndex
+     */
+    public default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > this.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            this.delete(fromIndex);
+        }
+    }
+
+    /**
+     * Returns a view of the items in the range [fromIndex, toIndex) of this list.
+     *
+     * The view is backed by this list: changes made through the view are visible in this
+     * list and vice versa. Structurally modifying this list other than through the view
+     * leaves the view in an undefined state.
+     *
+     * @throws IndexOutOfBoundsException if fromIndex < 0, toIndex > this.size(), or fromIndex > toIndex
+     */
+    public default IList<T> subList(int fromIndex, int toIndex) {
+        return new SubListView<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Returns a spliterator over the contents of this list.
+     *
+     * Note: The interface provides a default implementation that splits by batching up
+     *       the iterator, which suits linked lists. Array-backed implementations should
+     *       override it with one that splits by index range.
+     */
+    @Override
+    public default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(this.iterator(), this.size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream over the contents of this list.
+     */
+    public default Stream<T> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream over the contents of this list. The list must
+     * not be modified while the stream is in use.
+     */
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(this.spliterator(), true);
+    }
 }
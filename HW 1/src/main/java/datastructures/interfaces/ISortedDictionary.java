@@ -0,0 +1,57 @@
+package datastructures.interfaces;
+
+import datastructures.concrete.KVPair;
+import misc.exceptions.EmptyContainerException;
+
+import java.util.Iterator;
+
+/**
+ * Represents a dictionary that keeps its keys in ascending order, so it can answer
+ * questions about neighbouring keys and iterate over a range of keys.
+ *
+ * Keys must not be null. Looking up or removing a null key behaves as if the key
+ * were missing, and adding one throws an IllegalArgumentException.
+ */
+public interface ISortedDictionary<K extends Comparable<K>, V> extends IDictionary<K, V> {
+    /**
+     * Returns the smallest key in this dictionary.
+     *
+     * @throws EmptyContainerException if the dictionary is empty.
+     */
+    public K firstKey();
+
+    /**
+     * Returns the largest key in this dictionary.
+     *
+     * @throws EmptyContainerException if the dictionary is empty.
+     */
+    public K lastKey();
+
+    /**
+     * Returns the largest key less than or equal to the given key, or null if there is none.
+     */
+    public K floorKey(K key);
+
+    /**
+     * Returns the smallest key greater than or equal to the given key, or null if there is none.
+     */
+    public K ceilingKey(K key);
+
+    /**
+     * Returns an iterator over every key-value pair whose key is at least 'fromKey'
+     * (inclusive) and less than 'toKey' (exclusive), in ascending order of keys.
+     *
+     * Implementations should find the first pair in O(log n) time and then produce
+     * each pair in constant time.
+     *
+     * @throws IllegalArgumentException if 'fromKey' is greater than 'toKey', or either is null.
+     */
+    public Iterator<KVPair<K, V>> range(K fromKey, K toKey);
+
+    /**
+     * Returns an iterator over every key-value pair in this dictionary, in ascending
+     * order of keys.
+     */
+    @Override
+    public Iterator<KVPair<K, V>> iterator();
+}
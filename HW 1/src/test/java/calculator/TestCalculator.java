@@ -3,6 +3,7 @@ package calculator;
 import calculator.errors.EvaluationError;
 import calculator.gui.ImageDrawer;
 import calculator.interpreter.Calculator;
+import datastructures.concrete.PrimitiveDoubleList;
 import datastructures.interfaces.IList;
 import misc.BaseTest;
 import org.junit.ComparisonFailure;
@@ -248,5 +249,13 @@ public class TestCalculator extends BaseTest {
             this.lastXValues = xValues;
             this.lastYValues = yValues;
         }
+
+        @Override
+        public void drawScatterPlot(String title, String xAxisLabel, String yAxisLabel,
+                                    PrimitiveDoubleList xValues, PrimitiveDoubleList yValues,
+                                    Rectangle2D drawReagion) {
+            this.lastXValues = xValues;
+            this.lastYValues = yValues;
+        }
     }
 }
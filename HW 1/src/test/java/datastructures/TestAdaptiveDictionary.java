@@ -0,0 +1,127 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.AdaptiveDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+public class TestAdaptiveDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        IDictionary<String, String> dict = new AdaptiveDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyB", "newValB");
+        dict.put(null, "valNull");
+
+        assertEquals(3, dict.size());
+        assertEquals("newValB", dict.get("keyB"));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valA", dict.remove("keyA"));
+        assertFalse(dict.containsKey("keyA"));
+
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals("default", dict.getOrDefault("qux", "default"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSwitchesRepresentation() {
+        AdaptiveDictionary<Integer, Integer> dict = new AdaptiveDictionary<>(4);
+        for (int i = 0; i < 4; i++) {
+            dict.put(i, i);
+        }
+        assertFalse(dict.isHashed());
+
+        // Overwriting a key does not grow the dictionary
+        dict.put(0, 10);
+        assertFalse(dict.isHashed());
+
+        dict.put(4, 4);
+        assertTrue(dict.isHashed());
+        assertEquals(10, (int) dict.get(0));
+
+        // Dropping back below the threshold alone is not enough to switch back
+        dict.remove(4);
+        assertTrue(dict.isHashed());
+        dict.remove(3);
+        assertTrue(dict.isHashed());
+        dict.remove(2);
+        assertFalse(dict.isHashed());
+        assertEquals(2, dict.size());
+        assertEquals(10, (int) dict.get(0));
+        assertEquals(1, (int) dict.get(1));
+
+        try {
+            new AdaptiveDictionary<Integer, Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeysAndValuesSurviveSwitching() {
+        AdaptiveDictionary<String, String> dict = new AdaptiveDictionary<>(2);
+        dict.put(null, "valNull");
+        dict.put("a", null);
+        assertFalse(dict.isHashed());
+
+        dict.put("b", "valB");
+        assertTrue(dict.isHashed());
+        assertEquals("valNull", dict.get(null));
+        assertTrue(dict.containsKey("a"));
+        assertEquals(null, dict.get("a"));
+
+        // Half the threshold is 1, so only the second removal switches back
+        assertEquals("valB", dict.remove("b"));
+        assertTrue(dict.isHashed());
+        assertEquals(null, dict.remove("a"));
+        assertFalse(dict.isHashed());
+        assertEquals("valNull", dict.get(null));
+
+        // Entries put after switching back land in the array
+        dict.put("c", "valC");
+        assertFalse(dict.isHashed());
+        int count = 0;
+        for (KVPair<String, String> pair : dict) {
+            assertEquals(pair.getKey() == null ? "valNull" : "valC", pair.getValue());
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testThresholdOfOneEmptiesBeforeSwitchingBack() {
+        AdaptiveDictionary<Integer, Integer> dict = new AdaptiveDictionary<>(1);
+        dict.put(1, 1);
+        assertFalse(dict.isHashed());
+        dict.put(2, 2);
+        assertTrue(dict.isHashed());
+
+        // Half of 1 rounds down to 0, so the dictionary must empty out first
+        dict.remove(2);
+        assertTrue(dict.isHashed());
+        dict.remove(1);
+        assertFalse(dict.isHashed());
+        assertEquals(0, dict.size());
+
+        try {
+            dict.remove(1);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertFalse(dict.isHashed());
+    }
+}
@@ -5,12 +5,18 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import datastructures.concrete.KVPair;
 import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
 import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
 import misc.BaseTest;
 import misc.exceptions.NoSuchKeyException;
 import org.junit.Test;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
 public class TestArrayDictionary extends BaseTest {
     private IDictionary<String, String> makeBasicDictionary() {
         IDictionary<String, String> dict = new ArrayDictionary<>();
@@ -303,4 +309,76 @@ public class TestArrayDictionary extends BaseTest {
             assertEquals("newValC", dict.get("keyC"));
         }
     }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        dict.put(null, "valNull");
+        dict.remove("keyB");
+
+        IDictionary<String, String> seen = new ArrayDictionary<>();
+        for (KVPair<String, String> pair : dict) {
+            assertFalse(seen.containsKey(pair.getKey()));
+            seen.put(pair.getKey(), pair.getValue());
+        }
+        assertEquals(3, seen.size());
+        assertEquals("valA", seen.get("keyA"));
+        assertEquals("valC", seen.get("keyC"));
+        assertEquals("valNull", seen.get(null));
+
+        Iterator<KVPair<String, String>> iter = new ArrayDictionary<String, String>().iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testParallelStreamMatchesSequential() {
+        IDictionary<Integer, Integer> dict = new ArrayDictionary<>();
+        int cap = 5000;
+        for (int i = 0; i < cap; i++) {
+            dict.put(i, i * 2);
+        }
+        long expected = (long) cap * (cap - 1);
+        assertEquals(expected, dict.stream().mapToLong(pair -> pair.getValue()).sum());
+        assertEquals(expected, dict.parallelStream().mapToLong(pair -> pair.getValue()).sum());
+        assertEquals((long) cap, dict.parallelStream().filter(pair -> pair.getValue() == pair.getKey() * 2).count());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursor() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        dict.remove("keyB");
+        dict.put("keyD", "valD");
+
+        IDictionaryCursor<String, String> cursor = dict.cursor();
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+
+        IDictionary<String, String> seen = new ChainedHashDictionary<>();
+        while (cursor.next()) {
+            assertFalse(seen.containsKey(cursor.key()));
+            seen.put(cursor.key(), cursor.value());
+        }
+        assertEquals(3, seen.size());
+        assertEquals("valA", seen.get("keyA"));
+        assertEquals("valC", seen.get("keyC"));
+        assertEquals("valD", seen.get("keyD"));
+
+        assertFalse(cursor.next());
+        try {
+            cursor.value();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
 }
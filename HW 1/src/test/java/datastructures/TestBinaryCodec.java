@@ -0,0 +1,191 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import calculator.ast.AstNode;
+import calculator.ast.AstNodeCodec;
+import datastructures.concrete.DoubleLinkedList;
+import datastructures.concrete.KVPair;
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.codecs.BinaryCodec;
+import datastructures.concrete.codecs.BinaryReader;
+import datastructures.concrete.codecs.BinaryWriter;
+import datastructures.concrete.codecs.DictionaryCodec;
+import datastructures.concrete.codecs.ListCodec;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+public class TestBinaryCodec extends BaseTest {
+    private void assertAstEquals(AstNode expected, AstNode actual) {
+        assertEquals(expected.isNumber(), actual.isNumber());
+        assertEquals(expected.isVariable(), actual.isVariable());
+        if (expected.isNumber()) {
+            assertEquals(expected.getNumericValue(), actual.getNumericValue());
+            return;
+        }
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getChildren().size(), actual.getChildren().size());
+        for (int i = 0; i < expected.getChildren().size(); i++) {
+            this.assertAstEquals(expected.getChildren().get(i), actual.getChildren().get(i));
+        }
+    }
+
+    private IList<AstNode> list(AstNode... nodes) {
+        IList<AstNode> result = new PersistentVector<>();
+        for (AstNode node : nodes) {
+            result.add(node);
+        }
+        return result;
+    }
+
+    @Test(timeout=SECOND)
+    public void testVarIntsAndDoubles() {
+        // Start with a tiny buffer, so the writer has to grow it
+        BinaryWriter writer = new BinaryWriter(ByteBuffer.allocate(1));
+        int[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE};
+        for (int value : values) {
+            writer.writeVarInt(value);
+        }
+        writer.writeDouble(-0.0);
+        writer.writeDouble(Double.NaN);
+        writer.writeBoolean(true);
+
+        ByteBuffer buffer = writer.getBuffer();
+        // 1 + 1 + 1 + 2 + 2 + 2 + 3 + 5 bytes of varints, then two doubles and a boolean
+        assertEquals(17 + 16 + 1, buffer.remaining());
+
+        BinaryReader reader = new BinaryReader(buffer);
+        for (int value : values) {
+            assertEquals(value, reader.readVarInt());
+        }
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(reader.readDouble()));
+        assertTrue(Double.isNaN(reader.readDouble()));
+        assertTrue(reader.readBoolean());
+        assertEquals(0, reader.remaining());
+
+        try {
+            writer.writeVarInt(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testStringsAreInterned() {
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeString("variable");
+        writer.writeString(null);
+        writer.writeString("variable");
+        writer.writeString("\u00e9\u4e2d");
+        writer.writeString("");
+        writer.writeString("variable");
+
+        ByteBuffer buffer = writer.getBuffer();
+        // A new String costs a tag, a length and its bytes, and a repeat costs one byte
+        assertEquals((2 + 8) + 1 + 1 + (2 + 5) + 2 + 1, buffer.remaining());
+
+        BinaryReader reader = new BinaryReader(buffer);
+        assertEquals("variable", reader.readString());
+        assertEquals(null, reader.readString());
+        assertEquals("variable", reader.readString());
+        assertEquals("\u00e9\u4e2d", reader.readString());
+        assertEquals("", reader.readString());
+        assertEquals("variable", reader.readString());
+    }
+
+    @Test(timeout=SECOND)
+    public void testListRoundTrip() {
+        ListCodec<String> codec = new ListCodec<>(BinaryCodec.STRINGS);
+        IList<String> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i % 3 == 0 ? null : "item" + (i % 10));
+        }
+
+        IList<String> result = codec.decode(codec.encode(list));
+        assertEquals(list.size(), result.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i), result.get(i));
+        }
+
+        IList<String> empty = codec.decode(codec.encode(new DoubleLinkedList<>()));
+        assertEquals(0, empty.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDictionaryRoundTrip() {
+        DictionaryCodec<String, Double> codec = new DictionaryCodec<>(BinaryCodec.STRINGS, BinaryCodec.DOUBLES);
+        IDictionary<String, Double> dict = new ArrayDictionary<>();
+        for (int i = 0; i < 200; i++) {
+            dict.put("key" + i, i / 4.0);
+        }
+        dict.put(null, Double.NEGATIVE_INFINITY);
+
+        IDictionary<String, Double> result = codec.decode(codec.encode(dict));
+        assertEquals(dict.size(), result.size());
+        for (KVPair<String, Double> pair : dict) {
+            assertEquals(pair.getValue(), result.get(pair.getKey()));
+        }
+
+        dict.put("bad", null);
+        try {
+            codec.encode(dict);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSeveralValuesInOneBuffer() {
+        ListCodec<String> codec = new ListCodec<>(BinaryCodec.STRINGS);
+        IList<String> first = new DoubleLinkedList<>();
+        first.add("a");
+        IList<String> second = new DoubleLinkedList<>();
+        second.add("b");
+        second.add("a");
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer = codec.encode(first, buffer);
+        buffer.position(buffer.limit());
+        buffer.limit(buffer.capacity());
+        buffer = codec.encode(second, buffer);
+
+        IList<String> firstResult = codec.decode(buffer);
+        IList<String> secondResult = codec.decode(buffer);
+        assertEquals(1, firstResult.size());
+        assertEquals("a", firstResult.get(0));
+        assertEquals(2, secondResult.size());
+        assertEquals("b", secondResult.get(0));
+        assertEquals("a", secondResult.get(1));
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAstNodeRoundTrip() {
+        // x := sin(x) + 3.5 * -0.25 + f()
+        AstNode tree = new AstNode(":=", this.list(
+                new AstNode("x"),
+                new AstNode("+", this.list(
+                        new AstNode("sin", this.list(new AstNode("x"))),
+                        new AstNode("*", this.list(new AstNode(3.5), new AstNode(-0.25))),
+                        new AstNode("f", this.list())))));
+
+        AstNodeCodec codec = new AstNodeCodec();
+        AstNode result = codec.decode(codec.encode(tree));
+        this.assertAstEquals(tree, result);
+
+        try {
+            codec.decode(new byte[] {7});
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.BloomFilterDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+public class TestBloomFilterDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        IDictionary<String, String> inner = new ArrayDictionary<>();
+        inner.put("keyA", "valA");
+        IDictionary<String, String> dict = new BloomFilterDictionary<>(inner);
+        dict.put("keyB", "valB");
+        dict.put("keyB", "newValB");
+        dict.put(null, "valNull");
+
+        assertEquals(3, dict.size());
+        assertEquals("valA", dict.get("keyA"));
+        assertEquals("newValB", dict.get("keyB"));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valA", dict.remove("keyA"));
+        assertFalse(dict.containsKey("keyA"));
+        assertEquals("default", dict.getOrDefault("keyA", "default"));
+
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.get("qux");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testMissesSkipInnerDictionary() {
+        CountingDictionary<Integer, Integer> inner = new CountingDictionary<>();
+        BloomFilterDictionary<Integer, Integer> dict = new BloomFilterDictionary<>(inner);
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            dict.remove(i);
+        }
+
+        inner.lookups = 0;
+        for (int i = 1000; i < 11000; i++) {
+            assertFalse(dict.containsKey(i));
+        }
+        // Only the filter's false positives reach the inner dictionary
+        assertTrue(inner.lookups < 500);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(i));
+            assertTrue(dict.mightContainKey(i) || i % 2 == 0);
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOverwritesAndGrowthKeepCountsExact() {
+        BloomFilterDictionary<String, String> dict = new BloomFilterDictionary<>(new ArrayDictionary<>());
+        // Overwriting must not count the key twice, or removing it would leave it behind
+        dict.put("a", "val1");
+        dict.put("a", "val2");
+        assertEquals("val2", dict.remove("a"));
+        assertFalse(dict.mightContainKey("a"));
+
+        // The ninth key outgrows the smallest filter, which then gets rebuilt
+        for (int i = 0; i < 9; i++) {
+            dict.put("key" + i, "val" + i);
+        }
+        dict.put(null, "valNull");
+        for (int i = 0; i < 9; i++) {
+            assertTrue(dict.mightContainKey("key" + i));
+            assertEquals("val" + i, dict.get("key" + i));
+        }
+        assertEquals("valNull", dict.get(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRebuildClearsSaturatedCounters() {
+        BloomFilterDictionary<Wrapper<Integer>, Integer> dict = new BloomFilterDictionary<>(new ArrayDictionary<>());
+        for (int i = 0; i < 300; i++) {
+            dict.put(new Wrapper<>(i, 7), i);
+        }
+        for (int i = 0; i < 300; i++) {
+            dict.remove(new Wrapper<>(i, 7));
+        }
+        // The shared counters went past their maximum, so they can't count back down
+        assertEquals(0, dict.size());
+        assertTrue(dict.mightContainKey(new Wrapper<>(0, 7)));
+        assertFalse(dict.containsKey(new Wrapper<>(0, 7)));
+
+        dict.rebuild();
+        assertFalse(dict.mightContainKey(new Wrapper<>(0, 7)));
+        try {
+            dict.remove(new Wrapper<>(0, 7));
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testManyCopiesOfOneCounter() {
+        // Every key lands on the same counters, so they saturate but never go wrong
+        BloomFilterDictionary<Wrapper<Integer>, Integer> dict = new BloomFilterDictionary<>(new ArrayDictionary<>());
+        for (int i = 0; i < 300; i++) {
+            dict.put(new Wrapper<>(i, 7), i);
+        }
+        for (int i = 0; i < 299; i++) {
+            dict.remove(new Wrapper<>(i, 7));
+        }
+        assertTrue(dict.containsKey(new Wrapper<>(299, 7)));
+        assertFalse(dict.containsKey(new Wrapper<>(0, 7)));
+    }
+
+    // Counts how often lookups reach the dictionary
+    private static class CountingDictionary<K, V> extends ChainedHashDictionary<K, V> {
+        public int lookups = 0;
+
+        @Override
+        public boolean containsKey(K key) {
+            this.lookups++;
+            return super.containsKey(key);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TestChainedHashDictionary extends BaseTest {
+    private IDictionary<String, String> makeBasicDictionary() {
+        IDictionary<String, String> dict = new ChainedHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutAndGetBasic() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+
+        assertEquals(3, dict.size());
+        assertEquals("valA", dict.get("keyA"));
+        assertEquals("valB", dict.get("keyB"));
+        assertEquals("valC", dict.get("keyC"));
+
+        dict.put("keyB", "newValB");
+        assertEquals(3, dict.size());
+        assertEquals("newValB", dict.get("keyB"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveAndErrorHandling() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+
+        assertEquals("valB", dict.remove("keyB"));
+        assertFalse(dict.containsKey("keyB"));
+        assertEquals(2, dict.size());
+
+        try {
+            dict.remove("keyB");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+
+        try {
+            dict.get("qux");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals("default", dict.getOrDefault("qux", "default"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKey() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+
+        dict.put(null, "hello");
+        dict.put(null, "world");
+
+        assertEquals(4, dict.size());
+        assertEquals("world", dict.get(null));
+        assertEquals("world", dict.remove(null));
+        assertFalse(dict.containsKey(null));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeys() {
+        IDictionary<Wrapper<String>, Integer> dict = new ChainedHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(new Wrapper<>("" + i, 7), i);
+        }
+
+        assertEquals(100, dict.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) dict.get(new Wrapper<>("" + i, 7)));
+        }
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, (int) dict.remove(new Wrapper<>("" + i, 7)));
+        }
+        assertEquals(50, dict.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>("" + i, 7)));
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testPutGetRemoveManyIsEfficient() {
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        int cap = 500000;
+
+        for (int i = 0; i < cap; i++) {
+            dict.put(i, i * 2);
+        }
+        assertEquals(cap, dict.size());
+
+        for (int i = cap - 1; i >= 0; i--) {
+            assertEquals(i * 2, (int) dict.get(i));
+        }
+
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i * 2, (int) dict.remove(i));
+        }
+        assertTrue(dict.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        dict.put(null, "valNull");
+        dict.remove("keyB");
+
+        IDictionary<String, String> seen = new ArrayDictionary<>();
+        for (KVPair<String, String> pair : dict) {
+            assertFalse(seen.containsKey(pair.getKey()));
+            seen.put(pair.getKey(), pair.getValue());
+        }
+        assertEquals(3, seen.size());
+        assertEquals("valA", seen.get("keyA"));
+        assertEquals("valC", seen.get("keyC"));
+        assertEquals("valNull", seen.get(null));
+
+        Iterator<KVPair<String, String>> iter = new ChainedHashDictionary<String, String>().iterator();
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testParallelStreamMatchesSequential() {
+        IDictionary<Integer, Integer> dict = new ChainedHashDictionary<>();
+        int cap = 200000;
+        for (int i = 0; i < cap; i++) {
+            dict.put(i, i * 2);
+        }
+        long expected = (long) cap * (cap - 1);
+        assertEquals(expected, dict.stream().mapToLong(pair -> pair.getValue()).sum());
+        assertEquals(expected, dict.parallelStream().mapToLong(pair -> pair.getValue()).sum());
+        assertEquals((long) cap, dict.parallelStream().filter(pair -> pair.getValue() == pair.getKey() * 2).count());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorWalksChainsAndSkipsEmptyBuckets() {
+        IDictionary<Wrapper<String>, Integer> dict = new ChainedHashDictionary<>(8);
+        assertFalse(dict.cursor().next());
+
+        // With 8 buckets, "a", "b" and "c" all land in bucket 3, "d" in the last
+        // bucket and the null key in the first one
+        dict.put(new Wrapper<>("a", 3), 1);
+        dict.put(new Wrapper<>("b", 11), 2);
+        dict.put(new Wrapper<>("c", 3), 3);
+        dict.put(new Wrapper<>("d", 7), 4);
+        dict.put(null, 5);
+        // New entries go at the front of a chain, so "b" is in the middle of it
+        assertEquals(2, (int) dict.remove(new Wrapper<>("b", 11)));
+
+        IDictionaryCursor<Wrapper<String>, Integer> cursor = dict.cursor();
+        IDictionary<Wrapper<String>, Integer> seen = new ArrayDictionary<>();
+        while (cursor.next()) {
+            assertFalse(seen.containsKey(cursor.key()));
+            seen.put(cursor.key(), cursor.value());
+        }
+        assertEquals(4, seen.size());
+        assertEquals(1, (int) seen.get(new Wrapper<>("a", 3)));
+        assertEquals(3, (int) seen.get(new Wrapper<>("c", 3)));
+        assertEquals(4, (int) seen.get(new Wrapper<>("d", 7)));
+        assertEquals(5, (int) seen.get(null));
+
+        assertFalse(cursor.next());
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.CircularArrayDeque;
+import datastructures.interfaces.IDeque;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+
+public class TestCircularArrayDeque extends BaseTest {
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Iterator item " + i + " does not match", expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDequeOperationsWrapAround() {
+        IDeque<String> deque = new CircularArrayDeque<>(4);
+        deque.add("c");
+        deque.addFirst("b");
+        deque.addFirst("a");
+        deque.addLast("d");
+        this.assertListMatches(new String[] {"a", "b", "c", "d"}, deque);
+
+        // Full and wrapped around the end of the array, so this has to grow
+        deque.addFirst("start");
+        deque.add("end");
+        this.assertListMatches(new String[] {"start", "a", "b", "c", "d", "end"}, deque);
+        assertEquals("start", deque.peekFirst());
+        assertEquals("end", deque.peekLast());
+
+        assertEquals("start", deque.removeFirst());
+        assertEquals("end", deque.removeLast());
+        assertEquals("d", deque.remove());
+        this.assertListMatches(new String[] {"a", "b", "c"}, deque);
+
+        assertEquals("a", deque.removeFirst());
+        assertEquals("b", deque.removeFirst());
+        assertEquals("c", deque.removeFirst());
+        assertTrue(deque.isEmpty());
+        try {
+            deque.removeFirst();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            deque.peekFirst();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDeleteInMiddle() {
+        IDeque<String> deque = new CircularArrayDeque<>(4);
+        deque.add("b");
+        deque.add("c");
+        deque.addFirst("a");
+        deque.insert(1, "x");
+        deque.insert(3, "y");
+        deque.insert(0, "first");
+        deque.insert(deque.size(), "last");
+        this.assertListMatches(new String[] {"first", "a", "x", "b", "y", "c", "last"}, deque);
+
+        assertEquals("x", deque.delete(2));
+        assertEquals("y", deque.delete(3));
+        assertEquals("first", deque.delete(0));
+        this.assertListMatches(new String[] {"a", "b", "c", "last"}, deque);
+        assertEquals(2, deque.indexOf("c"));
+        assertFalse(deque.contains("x"));
+
+        try {
+            deque.get(4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            deque.insert(-1, "z");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIterator() {
+        IDeque<Integer> deque = new CircularArrayDeque<>(2);
+        for (int i = 0; i < 6; i++) {
+            deque.addFirst(i);
+        }
+        ListIterator<Integer> iter = deque.listIterator();
+        while (iter.hasNext()) {
+            if (iter.next() % 2 == 0) {
+                iter.remove();
+            }
+        }
+        this.assertListMatches(new Integer[] {5, 3, 1}, deque);
+    }
+
+    @Test(timeout=SECOND)
+    public void testShiftsAcrossTheEndOfTheArray() {
+        IDeque<String> deque = new CircularArrayDeque<>(8);
+        deque.addFirst("c");
+        deque.addFirst("b");
+        deque.addFirst("a");
+        deque.add("d");
+        deque.add("e");
+        // "a" to "c" sit at the end of the array and "d" and "e" at its start
+
+        // Near the front, so the front part shifts backwards
+        deque.insert(1, "x");
+        // Near the back, so "d" and "e" shift forwards
+        deque.insert(4, "y");
+        this.assertListMatches(new String[] {"a", "x", "b", "c", "y", "d", "e"}, deque);
+
+        // Fills the last slot, then grows while wrapped
+        deque.insert(3, "z");
+        deque.insert(0, "first");
+        this.assertListMatches(new String[] {"first", "a", "x", "b", "z", "c", "y", "d", "e"}, deque);
+
+        assertEquals("x", deque.delete(2));
+        assertEquals("d", deque.delete(6));
+        assertEquals("z", deque.delete(3));
+        this.assertListMatches(new String[] {"first", "a", "b", "c", "y", "e"}, deque);
+        assertEquals("first", deque.peekFirst());
+        assertEquals("e", deque.peekLast());
+    }
+
+    @Test(timeout=SECOND)
+    public void testSingleElementAndEmptyEdges() {
+        IDeque<String> deque = new CircularArrayDeque<>(1);
+        deque.insert(0, "a");
+        assertEquals("a", deque.peekFirst());
+        assertEquals("a", deque.peekLast());
+        assertEquals("a", deque.delete(0));
+        assertTrue(deque.isEmpty());
+
+        // Removing from either end of a one-element deque leaves it usable
+        deque.addFirst("b");
+        assertEquals("b", deque.remove());
+        deque.add("c");
+        assertEquals("c", deque.removeFirst());
+        deque.insert(0, "d");
+        deque.insert(0, null);
+        this.assertListMatches(new String[] {null, "d"}, deque);
+        assertEquals(0, deque.indexOf(null));
+
+        try {
+            deque.delete(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            new CircularArrayDeque<String>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.CompactArrayDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+public class TestCompactArrayDictionary extends BaseTest {
+    private IDictionary<String, String> makeBasicDictionary(boolean cacheHashes) {
+        IDictionary<String, String> dict = new CompactArrayDictionary<>(1, cacheHashes);
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        for (boolean cacheHashes : new boolean[] {false, true}) {
+            IDictionary<String, String> dict = this.makeBasicDictionary(cacheHashes);
+            dict.put("keyB", "newValB");
+            dict.put(null, "valNull");
+
+            assertEquals(4, dict.size());
+            assertEquals("newValB", dict.get("keyB"));
+            assertEquals("valNull", dict.get(null));
+            assertEquals("valA", dict.remove("keyA"));
+            assertFalse(dict.containsKey("keyA"));
+            assertEquals("valC", dict.get("keyC"));
+            assertEquals(3, dict.size());
+
+            try {
+                dict.remove("keyA");
+                fail("Expected NoSuchKeyException");
+            } catch (NoSuchKeyException ex) {
+                // This is ok: do nothing
+            }
+            try {
+                dict.get("qux");
+                fail("Expected NoSuchKeyException");
+            } catch (NoSuchKeyException ex) {
+                // This is ok: do nothing
+            }
+            assertEquals("default", dict.getOrDefault("qux", "default"));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeys() {
+        IDictionary<Wrapper<String>, Integer> dict = new CompactArrayDictionary<>(4, true);
+        for (int i = 0; i < 100; i++) {
+            dict.put(new Wrapper<>("" + i, i % 3), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, (int) dict.remove(new Wrapper<>("" + i, i % 3)));
+        }
+        assertEquals(50, dict.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>("" + i, i % 3)));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveKeepsCachedHashesAligned() {
+        for (boolean cacheHashes : new boolean[] {false, true}) {
+            // Capacity 1, so every put after the first grows the arrays
+            IDictionary<Wrapper<String>, Integer> dict = new CompactArrayDictionary<>(1, cacheHashes);
+            for (int i = 0; i < 5; i++) {
+                dict.put(new Wrapper<>("" + i, i), i);
+            }
+
+            // Removing from the middle moves the last entry (hash 4) into the hole
+            assertEquals(1, (int) dict.remove(new Wrapper<>("1", 1)));
+            assertEquals(4, (int) dict.get(new Wrapper<>("4", 4)));
+            // Removing the last entry moves nothing
+            assertEquals(3, (int) dict.remove(new Wrapper<>("3", 3)));
+            assertEquals(3, dict.size());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i != 1 && i != 3, dict.containsKey(new Wrapper<>("" + i, i)));
+            }
+
+            dict.remove(new Wrapper<>("0", 0));
+            dict.remove(new Wrapper<>("2", 2));
+            dict.remove(new Wrapper<>("4", 4));
+            assertEquals(0, dict.size());
+            assertFalse(dict.iterator().hasNext());
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyAmongKeysHashingToZero() {
+        // A null key is cached with hash 0, so it shares that hash with these keys
+        IDictionary<Wrapper<String>, String> dict = new CompactArrayDictionary<>(2, true);
+        dict.put(new Wrapper<>("a", 0), "valA");
+        dict.put(null, "valNull");
+        dict.put(new Wrapper<>(null, 0), "valWrappedNull");
+
+        assertEquals(3, dict.size());
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valWrappedNull", dict.get(new Wrapper<>(null, 0)));
+        assertEquals("valA", dict.remove(new Wrapper<>("a", 0)));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valNull", dict.remove(null));
+        assertFalse(dict.containsKey(null));
+        assertEquals("valWrappedNull", dict.get(new Wrapper<>(null, 0)));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorSnapshotsTheArrays() {
+        // Capacity 2, so the third put replaces both arrays
+        IDictionary<String, String> dict = new CompactArrayDictionary<>(2, true);
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        IDictionaryCursor<String, String> before = dict.cursor();
+        dict.put("keyC", "valC");
+
+        // The first cursor keeps walking the old arrays and their old size
+        assertTrue(before.next());
+        assertEquals("keyA", before.key());
+        assertTrue(before.next());
+        assertEquals("valB", before.value());
+        assertFalse(before.next());
+
+        // Removing "keyA" moves the last entry, "keyC", into its slot
+        dict.remove("keyA");
+        IDictionaryCursor<String, String> after = dict.cursor();
+        assertTrue(after.next());
+        assertEquals("keyC", after.key());
+        assertEquals("valC", after.value());
+        assertTrue(after.next());
+        assertEquals("keyB", after.key());
+        assertFalse(after.next());
+        try {
+            after.value();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+}
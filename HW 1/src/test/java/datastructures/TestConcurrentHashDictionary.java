@@ -0,0 +1,165 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.ConcurrentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class TestConcurrentHashDictionary extends BaseTest {
+    private IDictionary<String, String> makeBasicDictionary() {
+        IDictionary<String, String> dict = new ConcurrentHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        dict.put("keyB", "newValB");
+        dict.put(null, "valNull");
+
+        assertEquals(4, dict.size());
+        assertEquals("newValB", dict.get("keyB"));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valA", dict.remove("keyA"));
+        assertFalse(dict.containsKey("keyA"));
+        assertEquals(3, dict.size());
+
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.get("qux");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals("default", dict.getOrDefault("qux", "default"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeysAcrossResizes() {
+        IDictionary<Wrapper<String>, Integer> dict = new ConcurrentHashDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(new Wrapper<>("" + i, i % 3), i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, (int) dict.remove(new Wrapper<>("" + i, i % 3)));
+        }
+        assertEquals(500, dict.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>("" + i, i % 3)));
+        }
+        long total = 0;
+        for (KVPair<Wrapper<String>, Integer> pair : dict) {
+            total += pair.getValue();
+        }
+        assertEquals(250000L, total);
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testConcurrentWritersAndReaders() throws InterruptedException {
+        IDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>();
+        int numWriters = 4;
+        int keysPerWriter = 50000;
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        Thread[] writers = new Thread[numWriters];
+        for (int i = 0; i < numWriters; i++) {
+            int offset = i * keysPerWriter;
+            writers[i] = new Thread(() -> {
+                for (int key = offset; key < offset + keysPerWriter; key++) {
+                    dict.put(key, -key);
+                }
+                // Remove every other key again while the others are still growing the table
+                for (int key = offset; key < offset + keysPerWriter; key += 2) {
+                    if (dict.remove(key) != -key) {
+                        failed.set(true);
+                    }
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            for (int round = 0; round < 20; round++) {
+                for (int key = 0; key < numWriters * keysPerWriter; key += 7) {
+                    Integer value = dict.getOrDefault(key, -key);
+                    if (value != -key) {
+                        failed.set(true);
+                    }
+                }
+            }
+        });
+
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        reader.start();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        reader.join();
+
+        assertFalse(failed.get());
+        assertEquals(numWriters * keysPerWriter / 2, dict.size());
+        for (int key = 0; key < numWriters * keysPerWriter; key++) {
+            assertEquals(key % 2 == 1, dict.containsKey(key));
+        }
+        assertTrue(dict.stream().allMatch(pair -> pair.getValue() == -pair.getKey()));
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorSurvivesResize() {
+        ConcurrentHashDictionary<Integer, Integer> dict = new ConcurrentHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(i, i);
+        }
+        IDictionaryCursor<Integer, Integer> cursor = dict.cursor();
+        IDictionary<Integer, Integer> seen = new ArrayDictionary<>();
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cursor.next());
+            seen.put(cursor.key(), cursor.value());
+        }
+
+        // These puts resize the table several times while the cursor is halfway
+        // through it. The cursor keeps walking the table it started on, which resizing
+        // copies instead of relinking, so it sees every old entry exactly once. It may
+        // also see some of the new keys that went in before the first resize.
+        for (int i = 100; i < 2000; i++) {
+            dict.put(i, i);
+        }
+        dict.put(0, -1);
+        while (cursor.next()) {
+            assertFalse(seen.containsKey(cursor.key()));
+            seen.put(cursor.key(), cursor.value());
+        }
+        assertTrue(seen.size() < 2000);
+        for (int i = 1; i < 100; i++) {
+            assertEquals(i, (int) seen.get(i));
+        }
+        assertTrue(seen.containsKey(0));
+
+        // A new cursor walks the new table
+        cursor = dict.cursor();
+        int count = 0;
+        while (cursor.next()) {
+            assertEquals(cursor.key() == 0 ? -1 : cursor.key(), cursor.value());
+            count++;
+        }
+        assertEquals(2000, count);
+    }
+}
@@ -5,12 +5,16 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 
 import datastructures.concrete.DoubleLinkedList;
+import datastructures.interfaces.IDeque;
 import datastructures.interfaces.IList;
 import misc.BaseTest;
 import misc.exceptions.EmptyContainerException;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Random;
 
@@ -631,4 +635,519 @@ public class TestDoubleLinkedList extends BaseTest {
             count += 2;
         }
     }
+
+    @Test(timeout=5 * SECOND)
+    public void testSequentialIndexedAccessIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 200000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+        for (int i = cap - 1; i >= 0; i--) {
+            list.set(i, list.get(i) * 2);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i * 2, (int) list.get(i));
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testMixedPositionalOperationsMatchReference() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random rand = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            int op = rand.nextInt(5);
+            if (op == 0 || expected.isEmpty()) {
+                int index = rand.nextInt(expected.size() + 1);
+                list.insert(index, i);
+                expected.add(index, i);
+            } else if (op == 1) {
+                int index = rand.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.delete(index));
+            } else if (op == 2) {
+                int index = rand.nextInt(expected.size());
+                list.set(index, -i);
+                expected.set(index, -i);
+            } else if (op == 3) {
+                assertEquals(expected.remove(expected.size() - 1), list.remove());
+            } else {
+                int index = rand.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        this.assertListMatches(expected.toArray(new Integer[0]), list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorBidirectional() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator();
+
+        assertFalse(iter.hasPrevious());
+        assertEquals("a", iter.next());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertFalse(iter.hasNext());
+        assertEquals(3, iter.nextIndex());
+
+        assertEquals("c", iter.previous());
+        assertEquals("b", iter.previous());
+        assertEquals("a", iter.previous());
+        assertFalse(iter.hasPrevious());
+        try {
+            iter.previous();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorMutation() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator();
+
+        try {
+            iter.remove();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+
+        iter.add("start");
+        assertEquals("a", iter.next());
+        iter.remove();
+        assertEquals("b", iter.next());
+        iter.set("B");
+        iter.add("x");
+        assertEquals("c", iter.next());
+        assertEquals("c", iter.previous());
+        iter.set("C");
+        iter.add("y");
+        assertEquals("C", iter.next());
+        iter.add("end");
+        this.assertListMatches(new String[] {"start", "B", "x", "y", "C", "end"}, list);
+
+        // The list should stay consistent for positional access afterwards
+        assertEquals("end", list.remove());
+        list.insert(0, "first");
+        this.assertListMatches(new String[] {"first", "start", "B", "x", "y", "C"}, list);
+
+        iter = list.listIterator();
+        while (iter.hasNext()) {
+            iter.next();
+            iter.remove();
+        }
+        this.assertListMatches(new String[] {}, list);
+        list.add("only");
+        this.assertListMatches(new String[] {"only"}, list);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testListIteratorFilterIsEfficient() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+
+        ListIterator<Integer> iter = list.listIterator();
+        while (iter.hasNext()) {
+            int value = iter.next();
+            if (value % 2 == 1) {
+                iter.remove();
+            } else {
+                iter.add(value + 1);
+            }
+        }
+
+        assertEquals(cap, list.size());
+        int count = 0;
+        for (int num : list) {
+            assertEquals(count, num);
+            count++;
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliceAndConcat() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>();
+        list.add("a");
+        list.add("d");
+
+        DoubleLinkedList<String> middle = new DoubleLinkedList<>();
+        middle.add("b");
+        middle.add("c");
+        list.splice(1, middle);
+        this.assertListMatches(new String[] {"a", "b", "c", "d"}, list);
+        this.assertListMatches(new String[] {}, middle);
+
+        DoubleLinkedList<String> tail = new DoubleLinkedList<>();
+        tail.add("e");
+        list.concat(tail);
+        list.concat(new DoubleLinkedList<>());
+        this.assertListMatches(new String[] {"a", "b", "c", "d", "e"}, list);
+
+        DoubleLinkedList<String> head = new DoubleLinkedList<>();
+        head.add("start");
+        list.splice(0, head);
+        this.assertListMatches(new String[] {"start", "a", "b", "c", "d", "e"}, list);
+
+        DoubleLinkedList<String> empty = new DoubleLinkedList<>();
+        empty.concat(list);
+        this.assertListMatches(new String[] {"start", "a", "b", "c", "d", "e"}, empty);
+        this.assertListMatches(new String[] {}, list);
+        assertEquals("e", empty.remove());
+        empty.add("f");
+        this.assertListMatches(new String[] {"start", "a", "b", "c", "d", "f"}, empty);
+
+        try {
+            empty.splice(0, empty);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddAllAndRemoveRange() {
+        IList<String> list = this.makeBasicList();
+        list.addAll(this.makeBasicList());
+        this.assertListMatches(new String[] {"a", "b", "c", "a", "b", "c"}, list);
+
+        list.removeRange(1, 4);
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+        list.removeRange(2, 3);
+        this.assertListMatches(new String[] {"a", "b"}, list);
+        list.removeRange(0, 2);
+        this.assertListMatches(new String[] {}, list);
+
+        try {
+            list.removeRange(0, 1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testSubListView() {
+        IList<String> list = this.makeBasicList();
+        list.add("d");
+        list.add("e");
+
+        IList<String> sub = list.subList(1, 4);
+        this.assertListMatches(new String[] {"b", "c", "d"}, sub);
+
+        sub.set(0, "B");
+        sub.add("x");
+        assertEquals("c", sub.delete(1));
+        this.assertListMatches(new String[] {"B", "d", "x"}, sub);
+        this.assertListMatches(new String[] {"a", "B", "d", "x", "e"}, list);
+
+        assertEquals(2, sub.indexOf("x"));
+        assertFalse(sub.contains("e"));
+
+        sub.removeRange(0, 2);
+        this.assertListMatches(new String[] {"x"}, sub);
+        this.assertListMatches(new String[] {"a", "x", "e"}, list);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testConcatIsEfficient() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>();
+        for (int i = 0; i < 100000; i++) {
+            DoubleLinkedList<Integer> other = new DoubleLinkedList<>();
+            other.add(i);
+            list.concat(other);
+            list.splice(list.size() / 2, new DoubleLinkedList<>());
+        }
+        assertEquals(100000, list.size());
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testParallelStreamMatchesSequential() {
+        IList<Integer> list = new DoubleLinkedList<>();
+        int cap = 500000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long expected = (long) cap * (cap - 1) / 2;
+        assertEquals(expected, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals((long) cap / 2, list.parallelStream().filter(x -> x % 2 == 0).count());
+        assertEquals(cap - 1, (int) list.parallelStream().reduce(Integer::max).get());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDequeOperations() {
+        IDeque<String> deque = new DoubleLinkedList<>();
+        deque.addFirst("b");
+        deque.addFirst("a");
+        deque.addLast("c");
+        this.assertListMatches(new String[] {"a", "b", "c"}, deque);
+        assertEquals("a", deque.peekFirst());
+        assertEquals("c", deque.peekLast());
+
+        // Positional access should still line up after changes at the front
+        assertEquals("b", deque.get(1));
+        deque.addFirst("z");
+        assertEquals("b", deque.get(2));
+        assertEquals("z", deque.removeFirst());
+        assertEquals("b", deque.get(1));
+
+        assertEquals("a", deque.removeFirst());
+        assertEquals("c", deque.removeLast());
+        assertEquals("b", deque.removeFirst());
+        assertTrue(deque.isEmpty());
+
+        try {
+            deque.removeFirst();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            deque.peekLast();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveFirstIsEfficient() {
+        IDeque<Integer> deque = new DoubleLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            deque.addFirst(i);
+        }
+        for (int i = cap - 1; i >= 0; i--) {
+            assertEquals(i, (int) deque.removeFirst());
+        }
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(timeout=SECOND)
+    public void testPooledNodesAreRelinkedCleanly() {
+        // A pool of two, so removing three nodes at once overflows it
+        DoubleLinkedList<String> list = new DoubleLinkedList<>(2);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.add("d");
+        list.removeRange(0, 3);
+        this.assertListMatches(new String[] {"d"}, list);
+
+        // These reuse the two pooled nodes, then allocate a fresh one
+        list.addFirst("x");
+        list.add("y");
+        list.insert(1, "z");
+        this.assertListMatches(new String[] {"x", "z", "d", "y"}, list);
+
+        // A node recycled from the front must not keep its old links when it
+        // comes back at the end, and the other way around
+        assertEquals("x", list.removeFirst());
+        list.add("back");
+        assertEquals("back", list.remove());
+        list.addFirst("front");
+        this.assertListMatches(new String[] {"front", "z", "d", "y"}, list);
+
+        ListIterator<String> iter = list.listIterator();
+        while (iter.hasNext()) {
+            if (iter.next().equals("z")) {
+                iter.remove();
+            }
+        }
+        list.insert(2, "w");
+        this.assertListMatches(new String[] {"front", "d", "w", "y"}, list);
+        assertEquals("y", list.peekLast());
+        assertEquals(3, list.indexOf("y"));
+
+        try {
+            new DoubleLinkedList<Integer>(-1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testPoolDoesNotKeepRemovedElementsAlive() {
+        DoubleLinkedList<Wrapper<String>> list = new DoubleLinkedList<>(4);
+        Wrapper<String> item = new Wrapper<>("a", 0);
+        list.add(item);
+        list.add(new Wrapper<>("b", 0));
+        list.delete(0);
+        list.removeRange(0, list.size());
+        assertFalse(list.contains(item));
+        assertEquals(-1, list.indexOf(item));
+
+        // The recycled nodes come back empty, holding only what we put in them
+        list.add(new Wrapper<>("c", 0));
+        list.add(new Wrapper<>("d", 0));
+        assertEquals(new Wrapper<>("c", 0), list.get(0));
+        assertEquals(1, list.indexOf(new Wrapper<>("d", 0)));
+        assertEquals(2, list.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexedListTracksRepeatedValues() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>(4, true);
+        assertTrue(list.isIndexed());
+        assertFalse(new DoubleLinkedList<String>().isIndexed());
+
+        list.add("b");
+        list.add("a");
+        list.add("b");
+        list.addFirst("a");
+        list.insert(2, "c");
+        this.assertListMatches(new String[] {"a", "b", "c", "a", "b"}, list);
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(1, list.indexOf("b"));
+
+        // The first occurrence has to be found again after each of these
+        list.removeFirst();
+        assertEquals(2, list.indexOf("a"));
+        list.set(0, "c");
+        assertEquals(3, list.indexOf("b"));
+        assertEquals(0, list.indexOf("c"));
+        list.removeRange(0, 2);
+        this.assertListMatches(new String[] {"a", "b"}, list);
+        assertFalse(list.contains("c"));
+        assertEquals("b", list.remove());
+        assertFalse(list.contains("b"));
+
+        ListIterator<String> iter = list.listIterator();
+        iter.add("d");
+        assertEquals("a", iter.next());
+        iter.set("d");
+        this.assertListMatches(new String[] {"d", "d"}, list);
+        assertFalse(list.contains("a"));
+        iter.remove();
+        assertEquals(0, list.indexOf("d"));
+        list.delete(0);
+        assertFalse(list.contains("d"));
+        assertEquals(-1, list.indexOf("d"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testSpliceIntoIndexedList() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>(0, true);
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+
+        // From a plain list, into the middle, with a value already in the list
+        DoubleLinkedList<Integer> plain = new DoubleLinkedList<>();
+        plain.add(10);
+        plain.add(3);
+        plain.add(11);
+        list.splice(2, plain);
+        this.assertListMatches(new Integer[] {0, 1, 10, 3, 11, 2, 3}, list);
+        assertEquals(3, list.indexOf(3));
+        assertEquals(5, list.indexOf(2));
+
+        // From another indexed list, at the front and then at the end
+        DoubleLinkedList<Integer> indexed = new DoubleLinkedList<>(0, true);
+        indexed.add(20);
+        indexed.add(0);
+        list.splice(0, indexed);
+        assertFalse(indexed.contains(20));
+        assertEquals(-1, indexed.indexOf(0));
+        indexed.add(30);
+        list.concat(indexed);
+        this.assertListMatches(new Integer[] {20, 0, 0, 1, 10, 3, 11, 2, 3, 30}, list);
+        assertEquals(1, list.indexOf(0));
+        assertEquals(9, list.indexOf(30));
+        assertEquals(-1, list.indexOf(4));
+
+        // The spliced entries stay in step with later changes
+        list.delete(1);
+        list.delete(1);
+        assertFalse(list.contains(0));
+        assertEquals(3, list.indexOf(3));
+    }
+
+    @Test(timeout=SECOND)
+    public void testLargeSpliceKeepsPositions() {
+        // Large enough that the spliced entries form a deep tree of their own
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>(0, true);
+        DoubleLinkedList<Integer> other = new DoubleLinkedList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            other.add(1000 + i);
+        }
+        list.splice(500, other);
+        assertEquals(2000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i < 500 ? i : i + 1000, list.indexOf(i));
+            assertEquals(500 + i, list.indexOf(1000 + i));
+        }
+        // Drops 400-499, all of the spliced values, and 500-599
+        list.removeRange(400, 1600);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i < 400 || (i >= 600 && i < 1000), list.contains(i));
+        }
+        assertEquals(400, list.indexOf(600));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexedListHandlesNull() {
+        DoubleLinkedList<String> list = new DoubleLinkedList<>(0, true);
+        list.add("a");
+        list.add(null);
+        list.add("b");
+        list.add(null);
+        assertEquals(1, list.indexOf(null));
+        assertTrue(list.contains(null));
+        list.set(1, "c");
+        assertEquals(3, list.indexOf(null));
+        list.delete(3);
+        assertFalse(list.contains(null));
+        assertEquals(-1, list.indexOf(null));
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testIndexedContainsAndIndexOfAreEfficient() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>(0, true);
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertTrue(list.contains(i));
+            assertEquals(i, list.indexOf(i));
+            assertFalse(list.contains(-i - 1));
+        }
+    }
+
+    @Test(timeout=2 * SECOND)
+    public void testIndexOfIsEfficientWithRepeatedValues() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<>(0, true);
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i % 2);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i % 2, list.indexOf(i % 2));
+        }
+
+        // Each of these moves the first occurrence of a value
+        for (int i = 0; i < 1000; i++) {
+            list.set(i, 2);
+            assertEquals(0, list.indexOf(2));
+            assertEquals(i + 1, list.indexOf((i + 1) % 2));
+            assertEquals(i + 2, list.indexOf(i % 2));
+        }
+        list.removeRange(0, 1000);
+        assertFalse(list.contains(2));
+        assertEquals(0, list.indexOf(0));
+        assertEquals(1, list.indexOf(1));
+    }
 }
@@ -0,0 +1,163 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.LongLongHashDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+
+public class TestLongLongHashDictionary extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testPutGetRemoveBasic() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        dict.put(3, 30);
+        dict.put(-5, -50);
+        dict.put(0, 7);
+        dict.put(3, 31);
+
+        assertEquals(3, dict.size());
+        assertEquals(31L, dict.get(3));
+        assertEquals(-50L, dict.get(-5));
+        assertEquals(7L, dict.get(0));
+        assertEquals(99L, dict.getOrDefault(4, 99));
+
+        assertEquals(7L, dict.remove(0));
+        assertFalse(dict.containsKey(0));
+        assertEquals(31L, dict.remove(3));
+        assertEquals(1, dict.size());
+
+        try {
+            dict.get(3);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.remove(0);
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveKeepsProbeRunsReachable() {
+        // 12 keys bring the default 16-slot table to its load limit (0 is stored outside
+        // the table), so it's full of long probe runs. Removing each key in turn from a
+        // fresh copy checks that shifting the rest of its run back never strands
+        // another key.
+        long[] keys = {1, -1, 16, 32, 48, 17, 33, 15, 31, Long.MAX_VALUE, Long.MIN_VALUE, 0};
+        for (boolean offHeap : new boolean[] {false, true}) {
+            for (long removed : keys) {
+                LongLongHashDictionary dict = new LongLongHashDictionary(0, offHeap);
+                for (long key : keys) {
+                    dict.put(key, key + 1);
+                }
+                assertEquals(removed + 1, dict.remove(removed));
+                assertEquals(keys.length - 1, dict.size());
+                for (long key : keys) {
+                    assertEquals(key != removed, dict.containsKey(key));
+                    assertEquals(key == removed ? 7L : key + 1, dict.getOrDefault(key, 7L));
+                }
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemoveShiftsBackAcrossTheEndOfTheTable() {
+        // In the default 16-slot table these keys have home slots 14, 15, 15, 14, 0 and 1,
+        // so inserted in this order they fill one run from slot 14 through slot 4, which
+        // wraps from slot 15 to slot 0
+        long[] keys = {3, 26, 29, 33, 38, 30, 45};
+        for (boolean offHeap : new boolean[] {false, true}) {
+            for (long removed : keys) {
+                LongLongHashDictionary dict = new LongLongHashDictionary(0, offHeap);
+                for (long key : keys) {
+                    dict.put(key, key + 1);
+                }
+                // Removing 26 from slot 15, for example, has to pull 29 and 33 back
+                // from slots 0 and 1 across the end of the table
+                assertEquals(removed + 1, dict.remove(removed));
+                for (long key : keys) {
+                    assertEquals(key != removed, dict.containsKey(key));
+                    assertEquals(key == removed ? 7L : key + 1, dict.getOrDefault(key, 7L));
+                }
+                // The freed slot is usable again
+                dict.put(removed, -1);
+                assertEquals(-1L, dict.get(removed));
+                assertEquals(keys.length, dict.size());
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testResizeAtLoadLimit() {
+        for (boolean offHeap : new boolean[] {false, true}) {
+            LongLongHashDictionary dict = new LongLongHashDictionary(0, offHeap);
+            // 12 entries is the most the default table holds; the 13th forces a resize
+            for (long i = 1; i <= 13; i++) {
+                dict.put(i * 16, i);
+            }
+            dict.remove(16);
+            dict.put(0, 0);
+            assertEquals(13, dict.size());
+            for (long i = 2; i <= 13; i++) {
+                assertEquals(i, dict.get(i * 16));
+            }
+            assertEquals(0L, dict.get(0));
+            assertFalse(dict.containsKey(16));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDictionaryView() {
+        LongLongHashDictionary dict = new LongLongHashDictionary();
+        IDictionary<Long, Long> view = dict.asDictionary();
+        view.put(1L, 10L);
+        dict.put(2, 20);
+
+        assertEquals(2, view.size());
+        assertEquals(20L, (long) view.get(2L));
+        assertEquals(10L, dict.get(1));
+        assertFalse(view.containsKey(null));
+        assertEquals(10L, (long) view.remove(1L));
+        assertTrue(dict.containsKey(2));
+        assertFalse(dict.containsKey(1));
+    }
+
+    @Test(timeout=10 * SECOND)
+    public void testManyEntriesOffHeap() {
+        int cap = 2000000;
+        LongLongHashDictionary dict = new LongLongHashDictionary(0, true);
+        for (int i = 0; i < cap; i++) {
+            dict.put(i, i * 2L);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i * 2L, dict.get(i));
+        }
+        for (int i = 0; i < cap; i += 2) {
+            dict.remove(i);
+        }
+        assertEquals(cap / 2, dict.size());
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testDictionaryViewStream() {
+        LongLongHashDictionary dict = new LongLongHashDictionary(0, true);
+        for (long i = 0; i < 1000; i++) {
+            dict.put(i, -i);
+        }
+        IDictionary<Long, Long> view = dict.asDictionary();
+        assertEquals(1000L, view.stream().count());
+        assertEquals(0L, view.parallelStream().mapToLong(pair -> pair.getKey() + pair.getValue()).sum());
+        assertTrue(view.stream().anyMatch(pair -> pair.getKey() == 0L));
+    }
+}
@@ -0,0 +1,164 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.LruCacheDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+public class TestLruCacheDictionary extends BaseTest {
+    private void assertOrder(LruCacheDictionary<String, Integer> cache, String... expected) {
+        Iterator<KVPair<String, Integer>> iter = cache.iterator();
+        for (String key : expected) {
+            assertEquals(key, iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+        assertEquals(expected.length, cache.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEvictsLeastRecentlyUsed() {
+        StringBuilder evicted = new StringBuilder();
+        LruCacheDictionary<String, Integer> cache = new LruCacheDictionary<>(3, (key, value) -> {
+            evicted.append(key).append(value);
+        });
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        this.assertOrder(cache, "a", "b", "c");
+
+        // Using "a" saves it from being evicted next
+        assertEquals(1, (int) cache.get("a"));
+        cache.put("d", 4);
+        this.assertOrder(cache, "c", "a", "d");
+        assertEquals("b2", evicted.toString());
+
+        // Overwriting counts as a use, but doesn't evict anything
+        cache.put("c", 30);
+        this.assertOrder(cache, "a", "d", "c");
+        assertEquals("b2", evicted.toString());
+
+        // containsKey doesn't count as a use
+        assertTrue(cache.containsKey("a"));
+        cache.put("e", 5);
+        this.assertOrder(cache, "d", "c", "e");
+        assertEquals("b2a1", evicted.toString());
+
+        assertEquals(30, (int) cache.remove("c"));
+        this.assertOrder(cache, "d", "e");
+        try {
+            cache.remove("c");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testHitAndMissCounters() {
+        LruCacheDictionary<String, Integer> cache = new LruCacheDictionary<>(2);
+        cache.put("a", 1);
+        cache.put(null, 0);
+
+        assertEquals(1, (int) cache.get("a"));
+        assertEquals(0, (int) cache.get(null));
+        assertEquals(-1, (int) cache.getOrDefault("b", -1));
+        try {
+            cache.get("b");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(2L, cache.getMissCount());
+
+        try {
+            new LruCacheDictionary<String, Integer>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursor() {
+        LruCacheDictionary<String, Integer> cache = new LruCacheDictionary<>(5);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        IDictionaryCursor<String, Integer> cursor = cache.cursor();
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+        assertTrue(cursor.next());
+        assertEquals("b", cursor.key());
+        assertTrue(cursor.next());
+        assertEquals(1, (int) cursor.value());
+        assertFalse(cursor.next());
+        assertFalse(cursor.next());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCapacityOne() {
+        StringBuilder evicted = new StringBuilder();
+        LruCacheDictionary<String, Integer> cache = new LruCacheDictionary<>(1, (key, value) -> {
+            evicted.append(key).append(value);
+        });
+        cache.put("a", 1);
+        cache.put("a", 2);
+        this.assertOrder(cache, "a");
+        assertEquals("", evicted.toString());
+
+        // The only entry is both the least and most recently used one
+        cache.put("b", 3);
+        this.assertOrder(cache, "b");
+        assertEquals("a2", evicted.toString());
+
+        // Putting an evicted key back is just another new key
+        cache.put("a", 4);
+        this.assertOrder(cache, "a");
+        assertEquals("a2b3", evicted.toString());
+        assertEquals(4, (int) cache.get("a"));
+
+        // Removing the entry leaves room, so nothing is evicted
+        assertEquals(4, (int) cache.remove("a"));
+        this.assertOrder(cache);
+        cache.put("c", 5);
+        this.assertOrder(cache, "c");
+        assertEquals("a2b3", evicted.toString());
+    }
+
+    @Test(timeout=SECOND)
+    public void testEvictionOrderAfterRemovingFromTheMiddle() {
+        StringBuilder evicted = new StringBuilder();
+        LruCacheDictionary<String, Integer> cache = new LruCacheDictionary<>(3, (key, value) -> {
+            evicted.append(key).append(value);
+        });
+        cache.put("a", 1);
+        cache.put(null, null);
+        cache.put("c", 3);
+
+        // Removing the middle entry relinks its neighbours
+        assertEquals(null, cache.remove(null));
+        this.assertOrder(cache, "a", "c");
+        cache.put("d", 4);
+        cache.getOrDefault("a", -1);
+        this.assertOrder(cache, "c", "d", "a");
+
+        cache.put("e", 5);
+        cache.put(null, 6);
+        this.assertOrder(cache, "a", "e", null);
+        assertEquals("c3d4", evicted.toString());
+    }
+}
@@ -0,0 +1,211 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.codecs.StringCodec;
+import datastructures.concrete.dictionaries.ChainedHashDictionary;
+import datastructures.concrete.dictionaries.MappedLogDictionary;
+import datastructures.interfaces.IDictionary;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class TestMappedLogDictionary extends BaseTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private MappedLogDictionary<String, String> open(File file) {
+        return new MappedLogDictionary<>(file.getPath(), new StringCodec(), new StringCodec());
+    }
+
+    private void assertDictionaryMatches(IDictionary<String, String> expected, IDictionary<String, String> actual) {
+        assertEquals(expected.size(), actual.size());
+        int count = 0;
+        for (KVPair<String, String> pair : actual) {
+            assertEquals(expected.get(pair.getKey()), pair.getValue());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        File file = new File(this.folder.getRoot(), "basic.log");
+        try (MappedLogDictionary<String, String> dict = this.open(file)) {
+            dict.put("keyA", "valA");
+            dict.put("keyB", "valB");
+            dict.put("keyB", "newValB");
+            dict.put("", "empty");
+
+            assertEquals(3, dict.size());
+            assertEquals("newValB", dict.get("keyB"));
+            assertEquals("empty", dict.get(""));
+            assertEquals("valA", dict.remove("keyA"));
+            assertFalse(dict.containsKey("keyA"));
+            assertEquals("default", dict.getOrDefault("keyA", "default"));
+
+            try {
+                dict.remove("keyA");
+                fail("Expected NoSuchKeyException");
+            } catch (NoSuchKeyException ex) {
+                // This is ok: do nothing
+            }
+            try {
+                dict.get("qux");
+                fail("Expected NoSuchKeyException");
+            } catch (NoSuchKeyException ex) {
+                // This is ok: do nothing
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testReopenKeepsContents() {
+        File file = new File(this.folder.getRoot(), "reopen.log");
+        try (MappedLogDictionary<String, String> dict = this.open(file)) {
+            dict.put("x", "1");
+            dict.put("y", "2");
+            dict.put("x", "3");
+            dict.remove("y");
+            dict.put("z", "\u00e9\u4e2d");
+        }
+        MappedLogDictionary<String, String> dict = this.open(file);
+        assertEquals(2, dict.size());
+        assertEquals("3", dict.get("x"));
+        assertFalse(dict.containsKey("y"));
+        assertEquals("\u00e9\u4e2d", dict.get("z"));
+        dict.close();
+
+        try {
+            dict.get("x");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRejectsOtherFiles() throws IOException {
+        File file = this.folder.newFile("other.txt");
+        Files.write(file.toPath(), "definitely not a log file".getBytes("UTF-8"));
+        try {
+            this.open(file);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testCompactionKeepsOnlyLiveRecords() {
+        File file = new File(this.folder.getRoot(), "compact.log");
+        IDictionary<String, String> expected = new ChainedHashDictionary<>();
+        MappedLogDictionary<String, String> dict = this.open(file);
+
+        // Overwriting the same 100 keys over and over fills the log with garbage, which
+        // triggers compaction several times along the way
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            padding.append('.');
+        }
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 100; i++) {
+                String value = round + padding.toString();
+                expected.put("key" + i, value);
+                dict.put("key" + i, value);
+            }
+        }
+        // 10000 records of over 100 bytes each were written, but only 100 are live
+        assertTrue(file.length() < 256 * 1024);
+        this.assertDictionaryMatches(expected, dict);
+
+        // Removing everything leaves only tombstones and superseded records behind
+        for (int i = 0; i < 100; i++) {
+            dict.remove("key" + i);
+        }
+        dict.compact();
+        assertEquals(0, dict.size());
+        dict.put("new", "value");
+        dict.close();
+
+        dict = this.open(file);
+        assertEquals(1, dict.size());
+        assertEquals("value", dict.get("new"));
+        dict.close();
+    }
+
+    @Test(timeout=SECOND)
+    public void testFailedCompactionLeavesDictionaryUsable() throws IOException {
+        File file = new File(this.folder.getRoot(), "failed.log");
+        // A directory in the way of the new file makes compaction fail
+        this.folder.newFolder("failed.log.compact", "blocker");
+        MappedLogDictionary<String, String> dict = this.open(file);
+        dict.put("x", "1");
+        dict.put("x", "2");
+        dict.put("y", "3");
+
+        try {
+            dict.compact();
+            fail("Expected RuntimeException");
+        } catch (RuntimeException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals(2, dict.size());
+        assertEquals("2", dict.get("x"));
+        dict.put("z", "4");
+        dict.remove("y");
+        dict.close();
+
+        dict = this.open(file);
+        assertEquals(2, dict.size());
+        assertEquals("2", dict.get("x"));
+        assertEquals("4", dict.get("z"));
+        dict.close();
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testPutsSucceedWhenAutomaticCompactionFails() throws IOException {
+        File file = new File(this.folder.getRoot(), "blocked.log");
+        File blocker = this.folder.newFolder("blocked.log.compact", "blocker");
+        MappedLogDictionary<String, String> dict = this.open(file);
+
+        // Every round of overwrites adds about 10 KB of garbage, so automatic compaction
+        // is attempted (and fails) many times along the way
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            padding.append('.');
+        }
+        for (int round = 0; round < 300; round++) {
+            for (int i = 0; i < 10; i++) {
+                dict.put("key" + i, round + padding.toString());
+            }
+        }
+        dict.remove("key9");
+        assertEquals(9, dict.size());
+        for (int i = 0; i < 9; i++) {
+            assertEquals(299 + padding.toString(), dict.get("key" + i));
+        }
+        assertTrue(file.length() > 1024 * 1024);
+
+        // Once the way is clear, compaction works again
+        assertTrue(blocker.delete());
+        assertTrue(blocker.getParentFile().delete());
+        dict.compact();
+        assertTrue(file.length() < 64 * 1024);
+        dict.close();
+
+        dict = this.open(file);
+        assertEquals(9, dict.size());
+        assertEquals(299 + padding.toString(), dict.get("key0"));
+        dict.close();
+    }
+}
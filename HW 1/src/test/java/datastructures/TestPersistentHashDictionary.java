@@ -0,0 +1,199 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.dictionaries.ArrayDictionary;
+import datastructures.concrete.dictionaries.PersistentHashDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+public class TestPersistentHashDictionary extends BaseTest {
+    private PersistentHashDictionary<String, String> makeBasicDictionary() {
+        PersistentHashDictionary<String, String> dict = new PersistentHashDictionary<>();
+        dict.put("keyA", "valA");
+        dict.put("keyB", "valB");
+        dict.put("keyC", "valC");
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        IDictionary<String, String> dict = this.makeBasicDictionary();
+        dict.put("keyB", "newValB");
+        dict.put(null, "valNull");
+
+        assertEquals(4, dict.size());
+        assertEquals("newValB", dict.get("keyB"));
+        assertEquals("valNull", dict.get(null));
+        assertEquals("valA", dict.remove("keyA"));
+        assertFalse(dict.containsKey("keyA"));
+        assertEquals(3, dict.size());
+
+        try {
+            dict.remove("keyA");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.get("qux");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        assertEquals("default", dict.getOrDefault("qux", "default"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testWithAndWithoutLeaveOriginalUnchanged() {
+        PersistentHashDictionary<String, String> dict = this.makeBasicDictionary();
+        PersistentHashDictionary<String, String> added = dict.with("keyD", "valD");
+        PersistentHashDictionary<String, String> replaced = dict.with("keyA", "newValA");
+        PersistentHashDictionary<String, String> removed = dict.without("keyB");
+        dict.put("keyE", "valE");
+
+        assertEquals(4, dict.size());
+        assertFalse(dict.containsKey("keyD"));
+        assertEquals("valA", dict.get("keyA"));
+        assertEquals("valB", dict.get("keyB"));
+
+        assertEquals(4, added.size());
+        assertEquals("valD", added.get("keyD"));
+        assertFalse(added.containsKey("keyE"));
+        assertEquals("newValA", replaced.get("keyA"));
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey("keyB"));
+
+        try {
+            dict.without("qux");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCollidingKeys() {
+        PersistentHashDictionary<Wrapper<String>, Integer> dict = new PersistentHashDictionary<>();
+        for (int i = 0; i < 100; i++) {
+            dict.put(new Wrapper<>("" + i, i % 3), i);
+        }
+        PersistentHashDictionary<Wrapper<String>, Integer> snapshot = dict.copy();
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, (int) dict.remove(new Wrapper<>("" + i, i % 3)));
+        }
+        assertEquals(50, dict.size());
+        assertEquals(100, snapshot.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, dict.containsKey(new Wrapper<>("" + i, i % 3)));
+            assertEquals(i, (int) snapshot.get(new Wrapper<>("" + i, i % 3)));
+        }
+        for (int i = 1; i < 100; i += 2) {
+            dict.remove(new Wrapper<>("" + i, i % 3));
+        }
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.iterator().hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testDeepPathsCollapseOnRemove() {
+        // Hashes below 2^16 are used as is. 'a' and 'b' agree on their lowest 15 bits,
+        // so they only part ways three levels down, and 'c' has exactly b's hash.
+        Wrapper<String> a = new Wrapper<>("a", 1);
+        Wrapper<String> b = new Wrapper<>("b", 1 + (1 << 15));
+        Wrapper<String> c = new Wrapper<>("c", 1 + (1 << 15));
+        Wrapper<String> d = new Wrapper<>("d", 2);
+        PersistentHashDictionary<Wrapper<String>, Integer> dict = new PersistentHashDictionary<>();
+        dict.put(a, 1);
+        dict.put(b, 2);
+        dict.put(c, 3);
+        dict.put(d, 4);
+        PersistentHashDictionary<Wrapper<String>, Integer> snapshot = dict.copy();
+
+        // Leaves the lone colliding key, which then has to be found through the
+        // shortened path
+        assertEquals(2, (int) dict.remove(b));
+        assertEquals(3, (int) dict.get(c));
+        assertEquals(1, (int) dict.remove(a));
+        assertEquals(3, (int) dict.get(c));
+        assertEquals(4, (int) dict.remove(d));
+        assertEquals(1, dict.size());
+        assertEquals(3, (int) dict.get(c));
+
+        dict.put(a, 10);
+        dict.put(b, 20);
+        assertEquals(3, dict.size());
+        assertEquals(10, (int) dict.get(a));
+        assertEquals(20, (int) dict.get(b));
+        assertEquals(3, (int) dict.get(c));
+
+        assertEquals(4, snapshot.size());
+        assertEquals(1, (int) snapshot.get(a));
+        assertEquals(2, (int) snapshot.get(b));
+        assertEquals(4, (int) snapshot.get(d));
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullKeyCollidesWithHashZero() {
+        PersistentHashDictionary<Wrapper<String>, Integer> dict = new PersistentHashDictionary<>();
+        Wrapper<String> zero = new Wrapper<>("zero", 0);
+        dict.put(null, 1);
+        dict.put(zero, 2);
+        dict.put(null, 3);
+
+        assertEquals(2, dict.size());
+        assertEquals(3, (int) dict.get(null));
+        assertEquals(2, (int) dict.get(zero));
+        assertEquals(3, (int) dict.remove(null));
+        assertFalse(dict.containsKey(null));
+        assertEquals(2, (int) dict.get(zero));
+        assertEquals(2, (int) dict.remove(zero));
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.cursor().next());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorReachesCollisionsAndCollapsedPaths() {
+        // Hashes below 2^16 are used as is, and (1 << 30) ^ (1 << 14) mixes to 1 << 30.
+        // 'a' and the colliding 'b' and 'c' only part ways at the last level of the
+        // trie, so the cursor has to go all the way down and into a collision node.
+        Wrapper<String> a = new Wrapper<>("a", 0);
+        Wrapper<String> b = new Wrapper<>("b", (1 << 30) ^ (1 << 14));
+        Wrapper<String> c = new Wrapper<>("c", (1 << 30) ^ (1 << 14));
+        Wrapper<String> d = new Wrapper<>("d", 5);
+        PersistentHashDictionary<Wrapper<String>, Integer> dict = new PersistentHashDictionary<>();
+        dict.put(a, 1);
+        dict.put(b, 2);
+        dict.put(c, 3);
+        dict.put(d, 4);
+        PersistentHashDictionary<Wrapper<String>, Integer> snapshot = dict.copy();
+        this.assertCursorSees(dict.cursor(), 4, dict);
+
+        // Removing 'a' and 'b' collapses the long path down to a lone leaf for 'c'
+        dict.remove(a);
+        dict.remove(b);
+        this.assertCursorSees(dict.cursor(), 2, dict);
+        assertEquals(3, (int) dict.get(c));
+
+        // The snapshot's cursor still walks the old, uncollapsed trie
+        this.assertCursorSees(snapshot.cursor(), 4, snapshot);
+    }
+
+    private void assertCursorSees(IDictionaryCursor<Wrapper<String>, Integer> cursor, int expectedCount,
+                                  IDictionary<Wrapper<String>, Integer> dict) {
+        IDictionary<Wrapper<String>, Integer> seen = new ArrayDictionary<>();
+        while (cursor.next()) {
+            assertFalse(seen.containsKey(cursor.key()));
+            assertEquals(dict.get(cursor.key()), cursor.value());
+            seen.put(cursor.key(), cursor.value());
+        }
+        assertEquals(expectedCount, seen.size());
+        assertFalse(cursor.next());
+    }
+}
@@ -0,0 +1,175 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.PersistentVector;
+import datastructures.concrete.ResizingArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TestPersistentVector extends BaseTest {
+    protected <T> void assertListMatches(IList<T> expected, IList<T> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Item at index " + i + " does not match", expected.get(i), actual.get(i));
+        }
+        Iterator<T> iter = actual.iterator();
+        for (T item : expected) {
+            assertEquals(item, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOperations() {
+        IList<String> list = new PersistentVector<>();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.insert(1, "x");
+        list.set(0, "A");
+        assertEquals("x", list.delete(1));
+        assertEquals(2, list.indexOf("c"));
+        assertEquals("c", list.remove());
+        assertEquals("b", list.remove());
+        assertEquals("A", list.remove());
+        assertEquals(0, list.size());
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            list.get(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            list.iterator().next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCopiesAreIndependent() {
+        PersistentVector<Integer> original = new PersistentVector<>();
+        for (int i = 0; i < 2000; i++) {
+            original.add(i);
+        }
+        PersistentVector<Integer> copy = original.copy();
+        copy.set(5, -5);
+        copy.set(1999, -1999);
+        copy.add(2000);
+        PersistentVector<Integer> other = original.with(1000, -1000);
+        original.remove();
+        original.set(5, 55);
+
+        assertEquals(1999, original.size());
+        assertEquals(55, (int) original.get(5));
+        assertEquals(1000, (int) original.get(1000));
+        assertEquals(2001, copy.size());
+        assertEquals(-5, (int) copy.get(5));
+        assertEquals(-1999, (int) copy.get(1999));
+        assertEquals(2000, other.size());
+        assertEquals(5, (int) other.get(5));
+        assertEquals(-1000, (int) other.get(1000));
+        assertEquals(1999, (int) other.get(1999));
+    }
+
+    @Test(timeout=SECOND)
+    public void testTreeGrowsAndShrinksAtBoundaries() {
+        // The tail first spills into the tree at 33 elements, and the tree gains a
+        // level once it holds more than 32 * 32 elements on top of a full tail
+        int[] boundaries = {32, 33, 64, 65, 1056, 1057, 1088, 1089};
+        PersistentVector<Integer> list = new PersistentVector<>();
+        IList<PersistentVector<Integer>> snapshots = new ResizingArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            list.add(i);
+            for (int boundary : boundaries) {
+                if (list.size() == boundary) {
+                    snapshots.add(list.copy());
+                }
+            }
+        }
+
+        // Shrinking back past each boundary pulls leaves back out as the tail and
+        // drops the extra level again
+        while (list.size() > 0) {
+            int last = list.size() - 1;
+            assertEquals(last, (int) list.get(last));
+            assertEquals(last, (int) list.remove());
+            for (int boundary : boundaries) {
+                if (list.size() == boundary) {
+                    for (int i = 0; i < boundary; i++) {
+                        assertEquals(i, (int) list.get(i));
+                    }
+                    list.set(boundary - 1, -1);
+                    list.set(boundary - 1, boundary - 1);
+                }
+            }
+        }
+
+        for (int i = 0; i < boundaries.length; i++) {
+            PersistentVector<Integer> snapshot = snapshots.get(i);
+            assertEquals(boundaries[i], snapshot.size());
+            for (int j = 0; j < boundaries[i]; j++) {
+                assertEquals(j, (int) snapshot.get(j));
+            }
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testCopiesDoNotShareTails() {
+        PersistentVector<Integer> original = new PersistentVector<>();
+        for (int i = 0; i < 40; i++) {
+            original.add(i);
+        }
+        // Both start out pointing at the same 8-element tail
+        PersistentVector<Integer> copy = original.copy();
+        copy.add(100);
+        original.add(200);
+        assertEquals(100, (int) copy.get(40));
+        assertEquals(200, (int) original.get(40));
+
+        // Emptying the tail turns the last leaf of the shared tree into the tail
+        for (int i = 0; i < 9; i++) {
+            copy.remove();
+        }
+        assertEquals(32, copy.size());
+        copy.set(31, -31);
+        copy.add(-32);
+        assertEquals(31, (int) original.get(31));
+        assertEquals(32, (int) original.get(32));
+        assertEquals(-31, (int) copy.get(31));
+        assertEquals(-32, (int) copy.get(32));
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testCopyAndSetIsEfficient() {
+        PersistentVector<Integer> list = new PersistentVector<>();
+        int cap = 100000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        // With full copies, this would take about 10 billion steps
+        PersistentVector<Integer> curr = list;
+        for (int i = 0; i < cap; i++) {
+            curr = curr.with(i, -i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) list.get(i));
+            assertEquals(-i, (int) curr.get(i));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package datastructures;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.PrimitiveDoubleList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+public class TestPrimitiveDoubleList extends BaseTest {
+    @Test(timeout=SECOND)
+    public void testAddAndGetBasic() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList(1);
+        list.addDouble(1.5);
+        list.add(2.5);
+        list.addDouble(3.5);
+
+        assertEquals(3, list.size());
+        assertEquals(1.5, list.get(0));
+        assertEquals(2.5, list.getDouble(1));
+        assertEquals(3.5, list.get(2));
+        assertArrayEquals(new double[] {1.5, 2.5, 3.5}, list.toArray(), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testBulkAppendAndArrayView() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList(0);
+        list.addAll(new double[] {0.0, 1.0, 2.0, 3.0, 4.0}, 1, 3);
+
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, list.toArray(), 0.0);
+
+        double[] view = list.array();
+        view[0] = 10.0;
+        assertEquals(10.0, list.get(0));
+        assertSame(view, list.array());
+
+        PrimitiveDoubleList other = new PrimitiveDoubleList();
+        other.addAll(list);
+        other.addAll(list);
+        assertArrayEquals(new double[] {10.0, 2.0, 3.0, 10.0, 2.0, 3.0}, other.toArray(), 0.0);
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertDeleteAndRemove() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList();
+        list.add(1.0);
+        list.add(3.0);
+        list.insert(1, 2.0);
+        list.insert(0, 0.0);
+        list.insert(4, 4.0);
+        assertArrayEquals(new double[] {0.0, 1.0, 2.0, 3.0, 4.0}, list.toArray(), 0.0);
+
+        assertEquals(2.0, list.delete(2));
+        assertEquals(4.0, list.remove());
+        assertArrayEquals(new double[] {0.0, 1.0, 3.0}, list.toArray(), 0.0);
+
+        assertEquals(2, list.indexOf(3.0));
+        assertTrue(list.contains(0.0));
+        assertFalse(list.contains(2.0));
+        assertFalse(list.contains(null));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            list.getDouble(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList();
+        for (int i = 0; i < 100; i++) {
+            list.addDouble(i * 0.5);
+        }
+
+        Iterator<Double> iter = list.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(iter.hasNext());
+            assertEquals(i * 0.5, iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testAddManyIsEfficient() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList();
+        int cap = 5000000;
+        for (int i = 0; i < cap; i++) {
+            list.addDouble(i);
+        }
+        assertEquals(cap, list.size());
+        assertEquals(cap - 1.0, list.getDouble(cap - 1));
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testDoubleStream() {
+        PrimitiveDoubleList list = new PrimitiveDoubleList();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.addDouble(i);
+        }
+        double expected = (double) cap * (cap - 1) / 2;
+        assertEquals(expected, list.doubleStream(false).sum());
+        assertEquals(expected, list.doubleStream(true).sum());
+        assertEquals(expected, list.parallelStream().mapToDouble(Double::doubleValue).sum());
+    }
+}
@@ -0,0 +1,185 @@
+package datastructures;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.ResizingArrayList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+public class TestResizingArrayList extends BaseTest {
+    protected IList<String> makeBasicList() {
+        IList<String> list = new ResizingArrayList<>(1);
+
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        return list;
+    }
+
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddRemoveAndSet() {
+        IList<String> list = this.makeBasicList();
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+
+        list.set(1, "x");
+        this.assertListMatches(new String[] {"a", "x", "c"}, list);
+
+        assertEquals("c", list.remove());
+        assertEquals("x", list.remove());
+        assertEquals("a", list.remove());
+        this.assertListMatches(new String[] {}, list);
+
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDelete() {
+        IList<String> list = this.makeBasicList();
+        list.insert(0, "front");
+        list.insert(2, "middle");
+        list.insert(list.size(), "back");
+        this.assertListMatches(new String[] {"front", "a", "middle", "b", "c", "back"}, list);
+
+        assertEquals("middle", list.delete(2));
+        assertEquals("front", list.delete(0));
+        assertEquals("back", list.delete(list.size() - 1));
+        this.assertListMatches(new String[] {"a", "b", "c"}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOutOfBoundsThrowsException() {
+        IList<String> list = this.makeBasicList();
+        int[] badIndices = {-1, 3, 4};
+        for (int index : badIndices) {
+            try {
+                list.get(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // This is ok: do nothing
+            }
+            try {
+                list.delete(index);
+                fail("Expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException ex) {
+                // This is ok: do nothing
+            }
+        }
+        try {
+            list.insert(4, "d");
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testIndexOfAndContains() {
+        IList<String> list = this.makeBasicList();
+        list.add(null);
+        list.add("a");
+
+        assertEquals(0, list.indexOf("a"));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("z"));
+        assertTrue(list.contains(null));
+        assertFalse(list.contains("z"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIterator() {
+        IList<String> list = this.makeBasicList();
+        Iterator<String> iter = list.iterator();
+        assertEquals("a", iter.next());
+        assertEquals("b", iter.next());
+        assertEquals("c", iter.next());
+        assertFalse(iter.hasNext());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testIndexedAccessIsEfficient() {
+        IList<Integer> list = new ResizingArrayList<>();
+        int cap = 5000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        long total = 0;
+        for (int i = 0; i < cap; i++) {
+            list.set(i, list.get(i) + 1);
+            total += list.get(i);
+        }
+        assertEquals((long) cap * (cap + 1) / 2, total);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorMutation() {
+        IList<String> list = this.makeBasicList();
+        ListIterator<String> iter = list.listIterator();
+
+        assertEquals("a", iter.next());
+        iter.remove();
+        assertEquals("b", iter.next());
+        iter.set("B");
+        iter.add("x");
+        assertEquals("c", iter.next());
+        assertEquals("c", iter.previous());
+        assertEquals("x", iter.previous());
+        iter.remove();
+        this.assertListMatches(new String[] {"B", "c"}, list);
+
+        try {
+            iter.set("z");
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testParallelStreamMatchesSequential() {
+        IList<Integer> list = new ResizingArrayList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals((long) cap, spliterator.estimateSize());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals((long) cap, prefix.estimateSize() + spliterator.estimateSize());
+
+        long expected = (long) cap * (cap - 1) / 2;
+        assertEquals(expected, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(0, (int) list.parallelStream().findFirst().get());
+    }
+}
@@ -0,0 +1,151 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.RingBufferList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+
+public class TestRingBufferList extends BaseTest {
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Iterator item " + i + " does not match", expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testAddOverwritesOldest() {
+        RingBufferList<String> list = new RingBufferList<>(3);
+        list.add("a");
+        list.add("b");
+        assertFalse(list.isFull());
+        list.add("c");
+        assertTrue(list.isFull());
+        list.add("d");
+        list.add("e");
+        this.assertListMatches(new String[] {"c", "d", "e"}, list);
+        assertEquals(3, list.capacity());
+
+        list.set(0, "x");
+        assertEquals("e", list.remove());
+        list.add("f");
+        this.assertListMatches(new String[] {"x", "d", "f"}, list);
+        assertEquals(1, list.indexOf("d"));
+        assertFalse(list.contains("e"));
+
+        StringBuilder seen = new StringBuilder();
+        list.forEach(seen::append);
+        assertEquals("xdf", seen.toString());
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertAndDelete() {
+        RingBufferList<String> list = new RingBufferList<>(4);
+        list.add("a");
+        list.add("c");
+        list.insert(1, "b");
+        list.insert(0, "start");
+        this.assertListMatches(new String[] {"start", "a", "b", "c"}, list);
+
+        // Full, so inserting anywhere fails and leaves the list alone
+        for (int index : new int[] {0, 2, 4}) {
+            try {
+                list.insert(index, "x");
+                fail("Expected IllegalStateException");
+            } catch (IllegalStateException ex) {
+                // This is ok: do nothing
+            }
+            this.assertListMatches(new String[] {"start", "a", "b", "c"}, list);
+        }
+
+        assertEquals("start", list.delete(0));
+        list.insert(3, "end");
+        this.assertListMatches(new String[] {"a", "b", "c", "end"}, list);
+        assertEquals("a", list.delete(0));
+        assertEquals("c", list.delete(1));
+        this.assertListMatches(new String[] {"b", "end"}, list);
+
+        try {
+            list.get(2);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+        list.remove();
+        list.remove();
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            new RingBufferList<String>(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIteratorAddOnFullList() {
+        RingBufferList<Integer> list = new RingBufferList<>(4);
+        for (int i = 0; i < 4; i++) {
+            list.add(i);
+        }
+        ListIterator<Integer> iter = list.listIterator();
+        assertEquals(0, (int) iter.next());
+        assertEquals(1, (int) iter.next());
+        try {
+            iter.add(99);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+        // Neither the list nor the iterator's position changed
+        this.assertListMatches(new Integer[] {0, 1, 2, 3}, list);
+        assertEquals(2, iter.nextIndex());
+        assertEquals(2, (int) iter.next());
+
+        // Once there's room again, 'add' goes in before the next element
+        iter.remove();
+        iter.add(99);
+        assertEquals(3, (int) iter.next());
+        this.assertListMatches(new Integer[] {0, 1, 99, 3}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testOverwritingWrapsTheHead() {
+        RingBufferList<Integer> list = new RingBufferList<>(3);
+        // The last four adds overwrite, moving the head once around the array to slot 1
+        for (int i = 0; i < 7; i++) {
+            list.add(i);
+        }
+        this.assertListMatches(new Integer[] {4, 5, 6}, list);
+
+        // Deleting the front moves the head past the end of the array
+        assertEquals(4, (int) list.delete(0));
+        assertEquals(5, (int) list.delete(0));
+        list.insert(0, 1);
+        list.add(7);
+        this.assertListMatches(new Integer[] {1, 6, 7}, list);
+        list.add(8);
+        this.assertListMatches(new Integer[] {6, 7, 8}, list);
+    }
+}
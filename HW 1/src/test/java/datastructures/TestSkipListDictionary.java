@@ -0,0 +1,203 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.SkipListDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import datastructures.interfaces.ISortedDictionary;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public class TestSkipListDictionary extends BaseTest {
+    private ISortedDictionary<String, Integer> makeBasicDictionary() {
+        ISortedDictionary<String, Integer> dict = new SkipListDictionary<>();
+        dict.put("pear", 3);
+        dict.put("apple", 1);
+        dict.put("plum", 4);
+        dict.put("peach", 2);
+        return dict;
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        ISortedDictionary<String, Integer> dict = this.makeBasicDictionary();
+        dict.put("apple", 10);
+
+        assertEquals(4, dict.size());
+        assertEquals(10, (int) dict.get("apple"));
+        assertEquals(3, (int) dict.remove("pear"));
+        assertFalse(dict.containsKey("pear"));
+        assertFalse(dict.containsKey(null));
+        assertEquals(-1, (int) dict.getOrDefault("pear", -1));
+
+        try {
+            dict.remove("pear");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.put(null, 5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testOrderedQueries() {
+        ISortedDictionary<String, Integer> dict = this.makeBasicDictionary();
+
+        assertEquals("apple", dict.firstKey());
+        assertEquals("plum", dict.lastKey());
+        assertEquals("peach", dict.floorKey("peach"));
+        assertEquals("apple", dict.floorKey("banana"));
+        assertNull(dict.floorKey("aardvark"));
+        assertEquals("pear", dict.ceilingKey("peaches"));
+        assertNull(dict.ceilingKey("quince"));
+
+        Iterator<KVPair<String, Integer>> iter = dict.iterator();
+        String[] expected = {"apple", "peach", "pear", "plum"};
+        for (String key : expected) {
+            assertEquals(key, iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+
+        // All keys starting with "pe"
+        iter = dict.range("pe", "pf");
+        assertEquals(new KVPair<>("peach", 2), iter.next());
+        assertEquals(new KVPair<>("pear", 3), iter.next());
+        assertFalse(iter.hasNext());
+
+        assertFalse(dict.range("q", "z").hasNext());
+        try {
+            dict.range("z", "a");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testEmptyDictionary() {
+        ISortedDictionary<Integer, Integer> dict = new SkipListDictionary<>();
+        assertNull(dict.floorKey(5));
+        assertNull(dict.ceilingKey(5));
+        assertFalse(dict.iterator().hasNext());
+        try {
+            dict.firstKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.lastKey();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testRangeBoundaries() {
+        ISortedDictionary<Integer, Integer> dict = new SkipListDictionary<>();
+        for (int i = 0; i <= 100; i += 10) {
+            dict.put(i, i / 10);
+        }
+
+        // 'fromKey' is inclusive and 'toKey' is exclusive, whether or not they are keys
+        this.assertRangeKeys(dict.range(10, 30), 10, 20);
+        this.assertRangeKeys(dict.range(15, 30), 20);
+        this.assertRangeKeys(dict.range(15, 31), 20, 30);
+        this.assertRangeKeys(dict.range(30, 30));
+        this.assertRangeKeys(dict.range(-5, 0));
+        this.assertRangeKeys(dict.range(-5, 1), 0);
+        this.assertRangeKeys(dict.range(100, 200), 100);
+        this.assertRangeKeys(dict.range(101, 200));
+
+        Iterator<KVPair<Integer, Integer>> iter = dict.range(90, 95);
+        assertEquals(new KVPair<>(90, 9), iter.next());
+        try {
+            iter.next();
+            fail("Expected NoSuchElementException");
+        } catch (NoSuchElementException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    private void assertRangeKeys(Iterator<KVPair<Integer, Integer>> iter, int... expected) {
+        for (int key : expected) {
+            assertTrue(iter.hasNext());
+            assertEquals(key, (int) iter.next().getKey());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testRemovingKeysUpdatesOrderedQueries() {
+        ISortedDictionary<Integer, Integer> dict = new SkipListDictionary<>();
+        for (int i = 0; i < 1000; i++) {
+            dict.put(i, i);
+        }
+
+        // Removing the ends must relink every level the end nodes were on
+        dict.remove(0);
+        dict.remove(999);
+        assertEquals(1, (int) dict.firstKey());
+        assertEquals(998, (int) dict.lastKey());
+        assertNull(dict.floorKey(0));
+        assertEquals(1, (int) dict.ceilingKey(0));
+        assertNull(dict.ceilingKey(999));
+        assertEquals(998, (int) dict.floorKey(999));
+
+        // With every other key gone, each query lands between two remaining keys
+        for (int i = 2; i < 998; i += 2) {
+            dict.remove(i);
+        }
+        assertEquals(500, dict.size());
+        for (int i = 2; i < 998; i += 2) {
+            assertFalse(dict.containsKey(i));
+            assertEquals(i - 1, (int) dict.floorKey(i));
+            assertEquals(i + 1, (int) dict.ceilingKey(i));
+        }
+
+        for (int i = 1; i < 999; i += 2) {
+            dict.remove(i);
+        }
+        dict.remove(998);
+        assertTrue(dict.isEmpty());
+        assertNull(dict.floorKey(500));
+        assertFalse(dict.iterator().hasNext());
+        dict.put(7, 7);
+        assertEquals(7, (int) dict.firstKey());
+        assertEquals(7, (int) dict.lastKey());
+    }
+
+    @Test(timeout=SECOND)
+    public void testCursorIsOrdered() {
+        ISortedDictionary<String, Integer> dict = this.makeBasicDictionary();
+        IDictionaryCursor<String, Integer> cursor = dict.cursor();
+        String[] expected = {"apple", "peach", "pear", "plum"};
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(cursor.next());
+            assertEquals(expected[i], cursor.key());
+            assertEquals(i + 1, (int) cursor.value());
+        }
+        assertFalse(cursor.next());
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.KVPair;
+import datastructures.concrete.dictionaries.TernarySearchTreeDictionary;
+import datastructures.interfaces.IDictionary;
+import datastructures.interfaces.IDictionaryCursor;
+import misc.BaseTest;
+import misc.exceptions.NoSuchKeyException;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+public class TestTernarySearchTreeDictionary extends BaseTest {
+    private TernarySearchTreeDictionary<Integer> makeBasicDictionary() {
+        TernarySearchTreeDictionary<Integer> dict = new TernarySearchTreeDictionary<>();
+        dict.put("pear", 3);
+        dict.put("apple", 1);
+        dict.put("plum", 4);
+        dict.put("peach", 2);
+        return dict;
+    }
+
+    private void assertCursorKeys(IDictionaryCursor<String, Integer> cursor, String... expected) {
+        for (String key : expected) {
+            assertTrue(cursor.next());
+            assertEquals(key, cursor.key());
+        }
+        assertFalse(cursor.next());
+    }
+
+    @Test(timeout=SECOND)
+    public void testPutGetAndRemoveBasic() {
+        IDictionary<String, Integer> dict = this.makeBasicDictionary();
+        dict.put("apple", 10);
+        dict.put("", 0);
+
+        assertEquals(5, dict.size());
+        assertEquals(10, (int) dict.get("apple"));
+        assertEquals(0, (int) dict.get(""));
+        assertEquals(3, (int) dict.remove("pear"));
+        assertFalse(dict.containsKey("pear"));
+        assertFalse(dict.containsKey("pea"));
+        assertFalse(dict.containsKey(null));
+        assertEquals(-1, (int) dict.getOrDefault("pear", -1));
+        assertEquals(0, (int) dict.remove(""));
+        assertEquals(3, dict.size());
+
+        try {
+            dict.remove("pear");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.get("pea");
+            fail("Expected NoSuchKeyException");
+        } catch (NoSuchKeyException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            dict.put(null, 5);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInternReturnsSameInstance() {
+        TernarySearchTreeDictionary<Integer> dict = new TernarySearchTreeDictionary<>();
+        String first = new String("xyz");
+        String second = new String("xyz");
+
+        assertSame(first, dict.intern(first));
+        assertSame(first, dict.intern(second));
+        assertTrue(dict.isEmpty());
+        assertFalse(dict.containsKey("xyz"));
+
+        // Keys that were interned first keep their canonical instance once stored
+        dict.put(second, 1);
+        dict.remove("xyz");
+        dict.put(new String("xyz"), 2);
+        assertSame(first, dict.iterator().next().getKey());
+        assertSame(first, dict.intern("xyz"));
+    }
+
+    @Test(timeout=SECOND)
+    public void testIteratorIsOrdered() {
+        TernarySearchTreeDictionary<Integer> dict = this.makeBasicDictionary();
+        dict.put("", 0);
+        this.assertCursorKeys(dict.cursor(), "", "apple", "peach", "pear", "plum");
+
+        Iterator<KVPair<String, Integer>> iter = dict.iterator();
+        assertEquals(new KVPair<>("", 0), iter.next());
+        assertEquals(new KVPair<>("apple", 1), iter.next());
+        assertEquals(new KVPair<>("peach", 2), iter.next());
+        assertEquals(new KVPair<>("pear", 3), iter.next());
+        assertEquals(new KVPair<>("plum", 4), iter.next());
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testPrefixCursor() {
+        TernarySearchTreeDictionary<Integer> dict = this.makeBasicDictionary();
+        dict.put("pea", 5);
+        dict.intern("peanut");
+
+        this.assertCursorKeys(dict.prefixCursor("pe"), "pea", "peach", "pear");
+        this.assertCursorKeys(dict.prefixCursor("pea"), "pea", "peach", "pear");
+        this.assertCursorKeys(dict.prefixCursor("peac"), "peach");
+        this.assertCursorKeys(dict.prefixCursor("pl"), "plum");
+        this.assertCursorKeys(dict.prefixCursor("peanut"));
+        this.assertCursorKeys(dict.prefixCursor("q"));
+        this.assertCursorKeys(dict.prefixCursor("plums"));
+        this.assertCursorKeys(dict.prefixCursor(""), "apple", "pea", "peach", "pear", "plum");
+
+        IDictionaryCursor<String, Integer> cursor = dict.prefixCursor("pear");
+        try {
+            cursor.key();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+        assertTrue(cursor.next());
+        assertEquals(3, (int) cursor.value());
+        assertFalse(cursor.next());
+        try {
+            cursor.value();
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testKeysThatArePrefixesOfEachOther() {
+        TernarySearchTreeDictionary<Integer> dict = new TernarySearchTreeDictionary<>();
+        dict.put("abc", 3);
+        dict.put("a", 1);
+        dict.put("ab", 2);
+        dict.put("abcd", 4);
+        this.assertCursorKeys(dict.cursor(), "a", "ab", "abc", "abcd");
+
+        // Removed keys leave their nodes behind, which must not show up as keys
+        assertEquals(2, (int) dict.remove("ab"));
+        assertFalse(dict.containsKey("ab"));
+        assertTrue(dict.containsKey("abc"));
+        this.assertCursorKeys(dict.prefixCursor("ab"), "abc", "abcd");
+        assertEquals(4, (int) dict.remove("abcd"));
+        assertEquals(1, (int) dict.remove("a"));
+        this.assertCursorKeys(dict.cursor(), "abc");
+        this.assertCursorKeys(dict.prefixCursor("a"), "abc");
+
+        dict.put("ab", 20);
+        this.assertCursorKeys(dict.prefixCursor("a"), "ab", "abc");
+        assertEquals(2, dict.size());
+    }
+
+    @Test(timeout=SECOND)
+    public void testNullValuesAndCharacterOrder() {
+        TernarySearchTreeDictionary<Integer> dict = new TernarySearchTreeDictionary<>();
+        dict.put("b", null);
+        dict.put("B", 1);
+        dict.put("\u00e9", 2);
+        dict.put("b\u0000", 3);
+
+        // A key mapped to null is still a key
+        assertTrue(dict.containsKey("b"));
+        assertEquals(null, dict.get("b"));
+        assertEquals(-1, (int) dict.getOrDefault("c", -1));
+
+        // Keys are ordered by char value, as String.compareTo does
+        this.assertCursorKeys(dict.cursor(), "B", "b", "b\u0000", "\u00e9");
+        assertEquals(null, dict.remove("b"));
+        this.assertCursorKeys(dict.prefixCursor("b"), "b\u0000");
+    }
+}
@@ -0,0 +1,157 @@
+package datastructures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import datastructures.concrete.UnrolledLinkedList;
+import datastructures.interfaces.IList;
+import misc.BaseTest;
+import misc.exceptions.EmptyContainerException;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+
+public class TestUnrolledLinkedList extends BaseTest {
+    protected <T> void assertListMatches(T[] expected, IList<T> actual) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(expected.length == 0, actual.isEmpty());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Item at index " + i + " does not match", expected[i], actual.get(i));
+        }
+
+        Iterator<T> iter = actual.iterator();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Iterator item " + i + " does not match", expected[i], iter.next());
+        }
+        assertFalse(iter.hasNext());
+    }
+
+    @Test(timeout=SECOND)
+    public void testBasicOperationsAcrossChunks() {
+        IList<String> list = new UnrolledLinkedList<>(2);
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        list.insert(1, "x");
+        list.insert(0, "start");
+        this.assertListMatches(new String[] {"start", "a", "x", "b", "c"}, list);
+
+        list.set(2, "X");
+        assertEquals("X", list.delete(2));
+        assertEquals("start", list.delete(0));
+        assertEquals("c", list.remove());
+        this.assertListMatches(new String[] {"a", "b"}, list);
+
+        assertEquals(1, list.indexOf("b"));
+        assertTrue(list.contains("a"));
+        assertFalse(list.contains("c"));
+
+        list.remove();
+        list.remove();
+        this.assertListMatches(new String[] {}, list);
+        try {
+            list.remove();
+            fail("Expected EmptyContainerException");
+        } catch (EmptyContainerException ex) {
+            // This is ok: do nothing
+        }
+        try {
+            list.get(0);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // This is ok: do nothing
+        }
+    }
+
+    @Test(timeout=SECOND)
+    public void testInsertIntoFullChunkSplitsIt() {
+        // Odd capacity, so the two halves of a split differ in size
+        IList<Integer> list = new UnrolledLinkedList<>(3);
+        list.add(0);
+        list.add(1);
+        list.add(2);
+
+        // Lands right at the split point, so it goes at the end of the first half
+        list.insert(1, 10);
+        this.assertListMatches(new Integer[] {0, 10, 1, 2}, list);
+
+        // [0, 10] [1, 2]: index 2 is the start of the second chunk, not past the first
+        list.insert(2, 20);
+        this.assertListMatches(new Integer[] {0, 10, 20, 1, 2}, list);
+
+        // [0, 10] [20, 1, 2]: past the split point, so it goes into the new chunk
+        list.insert(4, 30);
+        this.assertListMatches(new Integer[] {0, 10, 20, 1, 30, 2}, list);
+
+        list.insert(0, -1);
+        list.insert(list.size() - 1, 40);
+        this.assertListMatches(new Integer[] {-1, 0, 10, 20, 1, 30, 40, 2}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testDeleteMergesAndUnlinksChunks() {
+        IList<Integer> list = new UnrolledLinkedList<>(4);
+        for (int i = 0; i < 12; i++) {
+            list.add(i);
+        }
+        // Chunks are [0..3] [4..7] [8..11]. Emptying the middle chunk unlinks it.
+        for (int i = 0; i < 4; i++) {
+            assertEquals(4 + i, (int) list.delete(4));
+        }
+        this.assertListMatches(new Integer[] {0, 1, 2, 3, 8, 9, 10, 11}, list);
+
+        // Trim the back chunk down to [8] and leave the cached position on it
+        for (int i = 0; i < 3; i++) {
+            list.remove();
+        }
+        assertEquals(8, (int) list.get(4));
+
+        // Shrink the front chunk until the two hold no more than half a chunk between
+        // them, at which point the front chunk absorbs the back one
+        assertEquals(0, (int) list.delete(0));
+        assertEquals(1, (int) list.delete(0));
+        assertEquals(2, (int) list.delete(0));
+        this.assertListMatches(new Integer[] {3, 8}, list);
+
+        list.add(9);
+        list.insert(1, 5);
+        this.assertListMatches(new Integer[] {3, 5, 8, 9}, list);
+    }
+
+    @Test(timeout=SECOND)
+    public void testListIterator() {
+        IList<Integer> list = new UnrolledLinkedList<>(3);
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        ListIterator<Integer> iter = list.listIterator();
+        while (iter.hasNext()) {
+            int value = iter.next();
+            if (value % 2 == 0) {
+                iter.remove();
+            } else {
+                iter.set(value * 10);
+            }
+        }
+        this.assertListMatches(new Integer[] {10, 30, 50, 70, 90}, list);
+    }
+
+    @Test(timeout=5 * SECOND)
+    public void testIndexedAccessIsEfficient() {
+        IList<Integer> list = new UnrolledLinkedList<>();
+        int cap = 1000000;
+        for (int i = 0; i < cap; i++) {
+            list.add(i);
+        }
+        for (int i = 0; i < cap; i++) {
+            assertEquals(i, (int) list.get(i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            list.insert(cap / 2, i);
+        }
+        assertEquals(cap + 10000, list.size());
+    }
+}